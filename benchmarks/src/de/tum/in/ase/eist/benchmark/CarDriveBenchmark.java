@@ -0,0 +1,75 @@
+package de.tum.in.ase.eist.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.CarStore;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * Measures {@link Car#drive(Dimension2D)} for a whole fleet, with the cars
+ * keeping their state in their own fields or in a {@link CarStore}, driven one
+ * at a time or with the Vector API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@State(Scope.Thread)
+public class CarDriveBenchmark {
+
+	@Param({ "5", "1000", "100000", "1000000" })
+	private int numberOfCars;
+
+	@Param({ "0.0", "0.5", "1.0" })
+	private double fastCarShare;
+
+	@Param({ "objects", "store", "vector" })
+	private String layout;
+
+	private List<Car> cars;
+	private CarStore carStore;
+	private Dimension2D size;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		GameBoard gameBoard = Fleets.createGameBoard(this.numberOfCars, this.fastCarShare);
+		if (!"objects".equals(this.layout)) {
+			gameBoard.useCarStore();
+			this.carStore = gameBoard.getCarStore();
+			this.carStore.setVectorDrive("vector".equals(this.layout));
+			if ("vector".equals(this.layout) && !this.carStore.isVectorDrive()) {
+				throw new IllegalStateException("The Vector API is not available.");
+			}
+		}
+		this.cars = gameBoard.getCars();
+		this.size = gameBoard.getSize();
+	}
+
+	@Benchmark
+	public void driveFleet() {
+		if (this.carStore != null) {
+			this.carStore.driveAll(this.size);
+			return;
+		}
+		for (int i = 0; i < this.cars.size(); i++) {
+			this.cars.get(i).drive(this.size);
+		}
+	}
+}
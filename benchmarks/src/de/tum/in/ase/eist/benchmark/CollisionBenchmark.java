@@ -0,0 +1,80 @@
+package de.tum.in.ase.eist.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Collision;
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * Measures the narrow-phase collision check and the winner evaluation of the
+ * player car against every other car, as done by
+ * {@link GameBoard#moveCars()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+	@Param({ "5", "1000", "100000", "1000000" })
+	private int numberOfCars;
+
+	@Param({ "0.0", "0.5", "1.0" })
+	private double fastCarShare;
+
+	private Car playerCar;
+	private List<Car> cars;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		GameBoard gameBoard = Fleets.createGameBoard(this.numberOfCars, this.fastCarShare);
+		this.playerCar = gameBoard.getPlayerCar();
+		this.cars = gameBoard.getCars();
+	}
+
+	@Benchmark
+	public void detectCollisionStatic(Blackhole blackhole) {
+		for (int i = 0; i < this.cars.size(); i++) {
+			blackhole.consume(Collision.detectCollision(this.playerCar, this.cars.get(i)));
+		}
+	}
+
+	@Benchmark
+	public void detectCollisionInstance(Blackhole blackhole) {
+		for (int i = 0; i < this.cars.size(); i++) {
+			blackhole.consume(new Collision(this.playerCar, this.cars.get(i)).isCrash());
+		}
+	}
+
+	@Benchmark
+	public void evaluate(Blackhole blackhole) {
+		for (int i = 0; i < this.cars.size(); i++) {
+			blackhole.consume(Collision.evaluate(this.playerCar, this.cars.get(i)));
+		}
+	}
+
+	@Benchmark
+	public void evaluateInstance(Blackhole blackhole) {
+		for (int i = 0; i < this.cars.size(); i++) {
+			blackhole.consume(new Collision(this.playerCar, this.cars.get(i)).evaluate());
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package de.tum.in.ase.eist.benchmark;
+
+import java.util.List;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.SlowCar;
+import de.tum.in.ase.eist.audio.SilentAudioPlayer;
+
+/**
+ * Creates game boards with fleets of a given size and car mix for the
+ * benchmarks.
+ */
+final class Fleets {
+
+	/**
+	 * Board area per car. The board grows with the fleet so that the density of
+	 * cars, and with it the number of crashes per car, stays the same.
+	 */
+	private static final double AREA_PER_CAR = 20_000;
+	private static final double ASPECT_RATIO = 5.0 / 3.0;
+	private static final Dimension2D MIN_SIZE = new Dimension2D(500, 300);
+
+	private Fleets() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	/**
+	 * Creates a game board with the given number of cars besides the player car.
+	 *
+	 * @param numberOfCars  the number of non-player cars
+	 * @param fastCarShare  the share of {@link FastCar}s between 0 and 1, the rest
+	 *                      are {@link SlowCar}s
+	 * @return a game board with a silent audio player and without a collision
+	 *         listener, so that crashes are detected but not printed
+	 */
+	static GameBoard createGameBoard(int numberOfCars, double fastCarShare) {
+		double height = Math.max(MIN_SIZE.getHeight(), Math.sqrt(numberOfCars * AREA_PER_CAR / ASPECT_RATIO));
+		double width = Math.max(MIN_SIZE.getWidth(), height * ASPECT_RATIO);
+		Dimension2D size = new Dimension2D(width, height);
+
+		GameBoard gameBoard = new GameBoard(size);
+		gameBoard.setAudioPlayer(new SilentAudioPlayer());
+		gameBoard.setCollisionListener(null);
+		List<Car> cars = gameBoard.getCars();
+		cars.clear();
+		double fastCars = 0;
+		for (int i = 0; i < numberOfCars; i++) {
+			// spread the fast cars evenly over the fleet
+			fastCars += fastCarShare;
+			if (fastCars >= 1) {
+				fastCars -= 1;
+				cars.add(new FastCar(size));
+			} else {
+				cars.add(new SlowCar(size));
+			}
+		}
+		return gameBoard;
+	}
+}
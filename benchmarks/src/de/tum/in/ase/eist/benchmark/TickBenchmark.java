@@ -0,0 +1,70 @@
+package de.tum.in.ase.eist.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.broadphase.SweepAndPruneBroadPhase;
+import de.tum.in.ase.eist.broadphase.UniformGridBroadPhase;
+
+/**
+ * Measures full {@link GameBoard#update()} ticks, i.e. driving and collision
+ * detection, for different fleet sizes, car mixes, storage layouts and
+ * collision strategies. Crashes are not printed, see
+ * {@link Fleets#createGameBoard(int, double)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TickBenchmark {
+
+	@Param({ "5", "1000", "100000", "1000000" })
+	private int numberOfCars;
+
+	@Param({ "0.0", "0.5", "1.0" })
+	private double fastCarShare;
+
+	@Param({ "objects", "store" })
+	private String layout;
+
+	/**
+	 * "player" only checks the player car, the others check all pairs.
+	 */
+	@Param({ "player", "grid", "sweep" })
+	private String collisions;
+
+	private GameBoard gameBoard;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.gameBoard = Fleets.createGameBoard(this.numberOfCars, this.fastCarShare);
+		if ("store".equals(this.layout)) {
+			this.gameBoard.useCarStore();
+		}
+		if ("grid".equals(this.collisions)) {
+			this.gameBoard.setBroadPhase(new UniformGridBroadPhase());
+		} else if ("sweep".equals(this.collisions)) {
+			this.gameBoard.setBroadPhase(new SweepAndPruneBroadPhase());
+		}
+	}
+
+	@Benchmark
+	public void update() {
+		this.gameBoard.update();
+	}
+}
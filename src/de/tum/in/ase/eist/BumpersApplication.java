@@ -21,6 +21,8 @@ public class BumpersApplication extends Application {
 	private static final int GRID_LAYOUT_PREF_HEIGHT = 350;
 	private static final int GRID_LAYOUT_PREF_WIDTH = 505;
 
+	private GameBoardUI gameBoardUI;
+
 	/**
 	 * Starts the Bumpers Window by setting up a new tool bar, a new user interface
 	 * and adding them to the stage.
@@ -32,19 +34,29 @@ public class BumpersApplication extends Application {
 	public void start(Stage primaryStage) {
 		// the tool bar object with start and stop buttons
 		GameToolBar toolBar = new GameToolBar();
-		GameBoardUI gameBoardUI = new GameBoardUI(toolBar);
-		toolBar.initializeActions(gameBoardUI);
+		this.gameBoardUI = new GameBoardUI(toolBar);
+		toolBar.initializeActions(this.gameBoardUI);
 
-		Pane gridLayout = createLayout(gameBoardUI, toolBar);
+		Pane gridLayout = createLayout(this.gameBoardUI, toolBar);
 
 		// scene and stages
 		Scene scene = new Scene(gridLayout);
 		primaryStage.setTitle("Bumpers");
 		primaryStage.setScene(scene);
-		primaryStage.setOnCloseRequest(closeEvent -> gameBoardUI.stopGame());
+		primaryStage.setOnCloseRequest(closeEvent -> this.gameBoardUI.stopGame());
 		primaryStage.show();
 	}
 
+	/**
+	 * Stops the game and its background threads when the application exits.
+	 */
+	@Override
+	public void stop() {
+		if (this.gameBoardUI != null) {
+			this.gameBoardUI.shutDown();
+		}
+	}
+
 	/**
 	 * Creates a new {@link Pane} that arranges the game's UI elements.
 	 */
@@ -1,5 +1,6 @@
 package de.tum.in.ase.eist;
 
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -12,13 +13,18 @@ public abstract class Car {
 
 	protected static final int DEFAULT_CAR_WIDTH = 50;
 	protected static final int DEFAULT_CAR_HEIGHT = 25;
+	private static final Dimension2D DEFAULT_CAR_SIZE = new Dimension2D(DEFAULT_CAR_WIDTH, DEFAULT_CAR_HEIGHT);
 
 	private int minSpeed;
 	private int maxSpeed;
 	private int speed;
 	private boolean crunched;
 
-	private Point2D position;
+	/**
+	 * The position of the upper left corner, updated in place while driving.
+	 */
+	private double x;
+	private double y;
 	/**
 	 * The direction as degree within a circle, a value between 0 (inclusive) and
 	 * 360 (exclusive).
@@ -26,7 +32,20 @@ public abstract class Car {
 	private int direction;
 
 	private String iconLocation;
-	private Dimension2D size = new Dimension2D(DEFAULT_CAR_WIDTH, DEFAULT_CAR_HEIGHT);
+	private Dimension2D size = DEFAULT_CAR_SIZE;
+
+	/**
+	 * The columnar store holding this car's state, null if the car keeps its state
+	 * in its own fields.
+	 */
+	private CarStore store;
+	private int slot;
+
+	/**
+	 * The source of all random values of this car, null to use
+	 * {@link ThreadLocalRandom}.
+	 */
+	private final Random random;
 
 	/**
 	 * Constructor, taking the maximum coordinates of the game board. Each car gets
@@ -38,10 +57,46 @@ public abstract class Car {
 	 * @param gameBoardSize dimensions of the game board
 	 */
 	protected Car(Dimension2D gameBoardSize) {
+		this(gameBoardSize, null);
+	}
+
+	/**
+	 * Constructor, taking the maximum coordinates of the game board and the source
+	 * of all random values. Cars created in the same order from equally seeded
+	 * sources are identical.
+	 *
+	 * @param gameBoardSize dimensions of the game board
+	 * @param random        the source of random values, null to use
+	 *                      {@link ThreadLocalRandom}
+	 */
+	protected Car(Dimension2D gameBoardSize, Random random) {
+		this.random = random;
 		setRandomPosition(gameBoardSize);
 		setRandomDirection();
 	}
 
+	/**
+	 * Constructor for a car whose state is restored right afterwards, e.g. by
+	 * {@link GameBoardCheckpoint}. No random values are drawn, the car stays in
+	 * the upper left corner with direction and speed 0 until its state is set.
+	 *
+	 * @param random the source of later random values, null to use
+	 *               {@link ThreadLocalRandom}
+	 */
+	protected Car(Random random) {
+		this.random = random;
+	}
+
+	/**
+	 * Returns the source of random values of this car.
+	 *
+	 * @return the random source passed on construction, or the
+	 *         {@link ThreadLocalRandom} of the current thread
+	 */
+	protected Random getRandom() {
+		return this.random != null ? this.random : ThreadLocalRandom.current();
+	}
+
 	/**
 	 * Sets the cars position to a random value in between the boundaries of the
 	 * game board.
@@ -49,13 +104,13 @@ protected Car(Dimension2D gameBoardSize) {
 	 * @param gameBoardSize dimensions of the game board
 	 */
 	protected void setRandomPosition(Dimension2D gameBoardSize) {
-		double carX = calculateRandomDouble(0, gameBoardSize.getWidth() - size.getWidth());
-		double carY = calculateRandomDouble(0, gameBoardSize.getHeight() - size.getHeight());
-		this.position = new Point2D(carX, carY);
+		double carX = calculateRandomDouble(getRandom(), 0, gameBoardSize.getWidth() - size.getWidth());
+		double carY = calculateRandomDouble(getRandom(), 0, gameBoardSize.getHeight() - size.getHeight());
+		setPosition(carX, carY);
 	}
 
 	protected void setRandomDirection() {
-		this.direction = calculateRandomInt(0, MAX_ANGLE);
+		setDirection(calculateRandomInt(getRandom(), 0, MAX_ANGLE));
 	}
 
 	/**
@@ -64,7 +119,56 @@ protected void setRandomDirection() {
 	 */
 	protected void setRandomSpeed() {
 		// We pass this.maxSpeed + 1 to include the value of maxSpeed
-		this.speed = calculateRandomInt(this.minSpeed, this.maxSpeed + 1);
+		setSpeed(calculateRandomInt(getRandom(), this.minSpeed, this.maxSpeed + 1));
+	}
+
+	/**
+	 * Puts the car back into the state of a newly created car: not crunched, with
+	 * a new random position, direction and speed. The random values are drawn in
+	 * the same order as on construction.
+	 *
+	 * @param gameBoardSize dimensions of the game board
+	 */
+	public void reset(Dimension2D gameBoardSize) {
+		if (this.store != null) {
+			this.store.setCrunched(this.slot, false);
+		} else {
+			this.crunched = false;
+		}
+		setRandomPosition(gameBoardSize);
+		setRandomDirection();
+		setRandomSpeed();
+	}
+
+	/**
+	 * Moves the state of this car into a new slot of the given store. From then on
+	 * this car is a view on that slot and all reads and writes go to the store.
+	 *
+	 * @param carStore the store to move the state of this car into
+	 * @throws IllegalStateException if this car is already attached to a store
+	 */
+	public void attachTo(CarStore carStore) {
+		if (this.store != null) {
+			throw new IllegalStateException("The car is already attached to a car store.");
+		}
+		int newSlot = carStore.allocateSlot();
+		carStore.setPosition(newSlot, this.x, this.y);
+		carStore.setSize(newSlot, this.size);
+		carStore.setDirection(newSlot, this.direction);
+		carStore.setSpeed(newSlot, this.speed);
+		carStore.setCrunched(newSlot, this.crunched);
+		this.store = carStore;
+		this.slot = newSlot;
+	}
+
+	/**
+	 * Checks if this car is a view on a slot of the given store.
+	 *
+	 * @param carStore the store to check
+	 * @return true if the state of this car lives in the given store
+	 */
+	public boolean isAttachedTo(CarStore carStore) {
+		return this.store == carStore;
 	}
 
 	/**
@@ -77,42 +181,69 @@ protected void setRandomSpeed() {
 	 *                      which the car is allowed to move.
 	 */
 	public void drive(Dimension2D gameBoardSize) {
+		double maxX = gameBoardSize.getWidth();
+		double maxY = gameBoardSize.getHeight();
+		if (this.store != null) {
+			this.store.drive(this.slot, maxX, maxY);
+			return;
+		}
 		if (this.crunched) {
 			return;
 		}
-		double maxX = gameBoardSize.getWidth();
-		double maxY = gameBoardSize.getHeight();
 		// calculate delta between old coordinates and new ones based on speed and
 		// direction
-		double deltaX = this.speed * Math.sin(Math.toRadians(this.direction));
-		double deltaY = this.speed * Math.cos(Math.toRadians(this.direction));
-		double newX = this.position.getX() + deltaX;
-		double newY = this.position.getY() + deltaY;
+		double deltaX = this.speed * Heading.sin(this.direction);
+		double deltaY = this.speed * Heading.cos(this.direction);
+		double newX = this.x + deltaX;
+		double newY = this.y + deltaY;
 
 		// calculate position in case the boarder of the game board has been reached
 		if (newX < 0) {
 			newX = -newX;
-			this.direction = MAX_ANGLE - this.direction;
+			this.direction = reflectHorizontally(this.direction);
 		} else if (newX + this.size.getWidth() > maxX) {
 			newX = 2 * maxX - newX - 2 * this.size.getWidth();
-			this.direction = MAX_ANGLE - this.direction;
+			this.direction = reflectHorizontally(this.direction);
 		}
 
 		if (newY < 0) {
 			newY = -newY;
-			this.direction = HALF_ANGLE - this.direction;
-			if (this.direction < 0) {
-				this.direction = MAX_ANGLE + this.direction;
-			}
+			this.direction = reflectVertically(this.direction);
 		} else if (newY + this.size.getHeight() > maxY) {
 			newY = 2 * maxY - newY - 2 * this.size.getHeight();
-			this.direction = HALF_ANGLE - this.direction;
-			if (this.direction < 0) {
-				this.direction = MAX_ANGLE + this.direction;
-			}
+			this.direction = reflectVertically(this.direction);
 		}
 		// set coordinates
-		this.position = new Point2D(newX, newY);
+		this.x = newX;
+		this.y = newY;
+	}
+
+	/**
+	 * Calculates the direction after bouncing off a vertical border (left or
+	 * right).
+	 *
+	 * @param direction the direction before the bounce
+	 * @return the direction after the bounce, between 0 (inclusive) and 360
+	 *         (exclusive) like every direction
+	 */
+	static int reflectHorizontally(int direction) {
+		// straight down stays straight down instead of becoming 360
+		return (MAX_ANGLE - direction) % MAX_ANGLE;
+	}
+
+	/**
+	 * Calculates the direction after bouncing off a horizontal border (top or
+	 * bottom).
+	 *
+	 * @param direction the direction before the bounce
+	 * @return the direction after the bounce
+	 */
+	static int reflectVertically(int direction) {
+		int reflected = HALF_ANGLE - direction;
+		if (reflected < 0) {
+			reflected = MAX_ANGLE + reflected;
+		}
+		return reflected;
 	}
 
 	/**
@@ -126,14 +257,24 @@ public void setDirection(int direction) {
 		if (direction < 0 || direction >= MAX_ANGLE) {
 			throw new IllegalArgumentException("Direction must be between 0 (inclusive) and 360 (exclusive)");
 		}
-		this.direction = direction;
+		if (this.store != null) {
+			this.store.setDirection(this.slot, direction);
+		} else {
+			this.direction = direction;
+		}
 	}
 
 	public int getDirection() {
+		if (this.store != null) {
+			return this.store.getDirection(this.slot);
+		}
 		return this.direction;
 	}
 
 	public int getSpeed() {
+		if (this.store != null) {
+			return this.store.getSpeed(this.slot);
+		}
 		return this.speed;
 	}
 
@@ -141,8 +282,9 @@ public int getSpeed() {
 	 * Increments the car's speed, won't exceed the maximum speed.
 	 */
 	public void incrementSpeed() {
-		if (this.speed < this.maxSpeed) {
-			this.speed++;
+		int currentSpeed = getSpeed();
+		if (currentSpeed < this.maxSpeed) {
+			setSpeed(currentSpeed + 1);
 		}
 	}
 
@@ -150,8 +292,9 @@ public void incrementSpeed() {
 	 * Decrements the car's speed, won't fall below the minimum speed.
 	 */
 	public void decrementSpeed() {
-		if (this.speed > this.minSpeed) {
-			this.speed--;
+		int currentSpeed = getSpeed();
+		if (currentSpeed > this.minSpeed) {
+			setSpeed(currentSpeed - 1);
 		}
 	}
 
@@ -172,12 +315,38 @@ protected void setIconLocation(String iconLocation) {
 		this.iconLocation = iconLocation;
 	}
 
+	/**
+	 * Returns the position of the car. A new {@link Point2D} is created on every
+	 * call, code that runs every tick should use {@link #getX()} and
+	 * {@link #getY()} instead.
+	 *
+	 * @return the position of the upper left corner of the car
+	 */
 	public Point2D getPosition() {
-		return this.position;
+		return new Point2D(getX(), getY());
+	}
+
+	public double getX() {
+		if (this.store != null) {
+			return this.store.getX(this.slot);
+		}
+		return this.x;
+	}
+
+	public double getY() {
+		if (this.store != null) {
+			return this.store.getY(this.slot);
+		}
+		return this.y;
 	}
 
 	public void setPosition(double x, double y) {
-		this.position = new Point2D(x, y);
+		if (this.store != null) {
+			this.store.setPosition(this.slot, x, y);
+		} else {
+			this.x = x;
+			this.y = y;
+		}
 	}
 
 	public Dimension2D getSize() {
@@ -186,14 +355,24 @@ public Dimension2D getSize() {
 
 	public void setSize(Dimension2D size) {
 		this.size = size;
+		if (this.store != null) {
+			this.store.setSize(this.slot, size);
+		}
 	}
 
 	public void crunch() {
-		this.crunched = true;
-		this.speed = 0;
+		if (this.store != null) {
+			this.store.setCrunched(this.slot, true);
+		} else {
+			this.crunched = true;
+		}
+		setSpeed(0);
 	}
 
 	public boolean isCrunched() {
+		if (this.store != null) {
+			return this.store.isCrunched(this.slot);
+		}
 		return this.crunched;
 	}
 
@@ -206,7 +385,11 @@ public int getMinSpeed() {
 	}
 
 	public void setSpeed(int speed) {
-		this.speed = speed;
+		if (this.store != null) {
+			this.store.setSpeed(this.slot, speed);
+		} else {
+			this.speed = speed;
+		}
 	}
 
 	public void setMaxSpeed(int maxSpeed) {
@@ -240,4 +423,30 @@ protected static int calculateRandomInt(int minValue, int maxValue) {
 	protected static double calculateRandomDouble(double minValue, double maxValue) {
 		return ThreadLocalRandom.current().nextDouble(minValue, maxValue);
 	}
+
+	/**
+	 * Calculates a new random int value between minValue (inclusive) and the
+	 * provided maxValue (exclusive), drawn from the given source.
+	 *
+	 * @param random   the source of randomness
+	 * @param minValue the inclusive lower bound
+	 * @param maxValue the exclusive upper bound
+	 * @return a random int value
+	 */
+	protected static int calculateRandomInt(Random random, int minValue, int maxValue) {
+		return minValue + random.nextInt(maxValue - minValue);
+	}
+
+	/**
+	 * Calculates a new random double value between minValue (inclusive) and the
+	 * provided maxValue (exclusive), drawn from the given source.
+	 *
+	 * @param random   the source of randomness
+	 * @param minValue the inclusive lower bound
+	 * @param maxValue the exclusive upper bound
+	 * @return a random double value
+	 */
+	protected static double calculateRandomDouble(Random random, double minValue, double maxValue) {
+		return minValue + random.nextDouble() * (maxValue - minValue);
+	}
 }
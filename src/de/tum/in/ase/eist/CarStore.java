@@ -0,0 +1,238 @@
+package de.tum.in.ase.eist;
+
+import java.util.Arrays;
+
+/**
+ * Columnar storage for the state of many cars. Position, direction, speed, size
+ * and crunched flag of each car are kept in primitive arrays, one slot per car,
+ * so that driving and colliding a large fleet walks memory in order and does
+ * not allocate.
+ * <p>
+ * Cars attached to a store become a view on their slot, see
+ * {@link Car#attachTo(CarStore)}.
+ */
+public class CarStore {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private static final boolean VECTOR_DRIVE_SUPPORTED = ModuleLayer.boot().findModule("jdk.incubator.vector")
+			.isPresent();
+
+	private double[] x;
+	private double[] y;
+	private double[] width;
+	private double[] height;
+	private int[] direction;
+	private int[] speed;
+	private boolean[] crunched;
+
+	/**
+	 * The number of occupied slots.
+	 */
+	private int count;
+
+	/**
+	 * true if whole vectors of cars are driven at once, see {@link VectorDrive}.
+	 */
+	private boolean vectorDrive;
+
+	public CarStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a store with room for the given number of cars before its arrays
+	 * have to grow.
+	 *
+	 * @param capacity the initial capacity
+	 */
+	public CarStore(int capacity) {
+		int initialCapacity = Math.max(capacity, 1);
+		this.x = new double[initialCapacity];
+		this.y = new double[initialCapacity];
+		this.width = new double[initialCapacity];
+		this.height = new double[initialCapacity];
+		this.direction = new int[initialCapacity];
+		this.speed = new int[initialCapacity];
+		this.crunched = new boolean[initialCapacity];
+	}
+
+	/**
+	 * Reserves a new slot and returns its index.
+	 *
+	 * @return the index of the new slot
+	 */
+	int allocateSlot() {
+		if (this.count == this.x.length) {
+			grow();
+		}
+		return this.count++;
+	}
+
+	private void grow() {
+		int newCapacity = this.x.length * 2;
+		this.x = Arrays.copyOf(this.x, newCapacity);
+		this.y = Arrays.copyOf(this.y, newCapacity);
+		this.width = Arrays.copyOf(this.width, newCapacity);
+		this.height = Arrays.copyOf(this.height, newCapacity);
+		this.direction = Arrays.copyOf(this.direction, newCapacity);
+		this.speed = Arrays.copyOf(this.speed, newCapacity);
+		this.crunched = Arrays.copyOf(this.crunched, newCapacity);
+	}
+
+	public int size() {
+		return this.count;
+	}
+
+	/**
+	 * Checks whether the cars can be driven with the Vector API, which requires
+	 * the JVM to be started with {@code --add-modules jdk.incubator.vector}.
+	 *
+	 * @return true if the vector drive is available
+	 */
+	public static boolean isVectorDriveSupported() {
+		return VECTOR_DRIVE_SUPPORTED;
+	}
+
+	public boolean isVectorDrive() {
+		return this.vectorDrive;
+	}
+
+	/**
+	 * Sets whether the bulk drive methods drive several cars at a time with the
+	 * Vector API. The results are exactly the same as driving one car at a time.
+	 * If the Vector API is not available, the cars are still driven one at a time.
+	 *
+	 * @param vectorDrive true to use the Vector API if it is available
+	 */
+	public void setVectorDrive(boolean vectorDrive) {
+		this.vectorDrive = vectorDrive && VECTOR_DRIVE_SUPPORTED;
+	}
+
+	/**
+	 * Drives all cars of this store one step further, in slot order.
+	 *
+	 * @param gameBoardSize dimensions of the game board that are the bounds inside
+	 *                      which the cars are allowed to move.
+	 * @see Car#drive(Dimension2D)
+	 */
+	public void driveAll(Dimension2D gameBoardSize) {
+		drive(0, this.count, gameBoardSize.getWidth(), gameBoardSize.getHeight());
+	}
+
+	/**
+	 * Drives the cars in the given range of slots one step further.
+	 *
+	 * @param from the first slot (inclusive)
+	 * @param to   the last slot (exclusive)
+	 */
+	void drive(int from, int to, double maxX, double maxY) {
+		int slot = from;
+		if (this.vectorDrive) {
+			slot = VectorDrive.drive(this, this.x, this.y, this.width, this.height, this.direction, this.speed,
+					this.crunched, from, to, maxX, maxY);
+		}
+		for (; slot < to; slot++) {
+			drive(slot, maxX, maxY);
+		}
+	}
+
+	/**
+	 * Drives the car in the given slot, same as {@link Car#drive(Dimension2D)}.
+	 */
+	void drive(int slot, double maxX, double maxY) {
+		if (this.crunched[slot]) {
+			return;
+		}
+		int carDirection = this.direction[slot];
+		double carWidth = this.width[slot];
+		double carHeight = this.height[slot];
+		double newX = this.x[slot] + this.speed[slot] * Heading.sin(carDirection);
+		double newY = this.y[slot] + this.speed[slot] * Heading.cos(carDirection);
+
+		if (newX < 0) {
+			newX = -newX;
+			carDirection = Car.reflectHorizontally(carDirection);
+		} else if (newX + carWidth > maxX) {
+			newX = 2 * maxX - newX - 2 * carWidth;
+			carDirection = Car.reflectHorizontally(carDirection);
+		}
+
+		if (newY < 0) {
+			newY = -newY;
+			carDirection = Car.reflectVertically(carDirection);
+		} else if (newY + carHeight > maxY) {
+			newY = 2 * maxY - newY - 2 * carHeight;
+			carDirection = Car.reflectVertically(carDirection);
+		}
+		this.x[slot] = newX;
+		this.y[slot] = newY;
+		this.direction[slot] = carDirection;
+	}
+
+	/**
+	 * Checks whether the bounding boxes of the cars in the two slots overlap, same
+	 * as {@link Collision#detectCollision()}.
+	 *
+	 * @param first  the slot of the first car
+	 * @param second the slot of the second car
+	 * @return true if the two cars overlap
+	 */
+	public boolean overlaps(int first, int second) {
+		boolean above = this.y[first] + this.height[first] < this.y[second];
+		boolean below = this.y[first] > this.y[second] + this.height[second];
+		boolean right = this.x[first] + this.width[first] < this.x[second];
+		boolean left = this.x[first] > this.x[second] + this.width[second];
+		return !above && !below && !right && !left;
+	}
+
+	public double getX(int slot) {
+		return this.x[slot];
+	}
+
+	public double getY(int slot) {
+		return this.y[slot];
+	}
+
+	void setPosition(int slot, double newX, double newY) {
+		this.x[slot] = newX;
+		this.y[slot] = newY;
+	}
+
+	public double getWidth(int slot) {
+		return this.width[slot];
+	}
+
+	public double getHeight(int slot) {
+		return this.height[slot];
+	}
+
+	void setSize(int slot, Dimension2D size) {
+		this.width[slot] = size.getWidth();
+		this.height[slot] = size.getHeight();
+	}
+
+	public int getDirection(int slot) {
+		return this.direction[slot];
+	}
+
+	void setDirection(int slot, int newDirection) {
+		this.direction[slot] = newDirection;
+	}
+
+	public int getSpeed(int slot) {
+		return this.speed[slot];
+	}
+
+	void setSpeed(int slot, int newSpeed) {
+		this.speed[slot] = newSpeed;
+	}
+
+	public boolean isCrunched(int slot) {
+		return this.crunched[slot];
+	}
+
+	void setCrunched(int slot, boolean isCrunched) {
+		this.crunched[slot] = isCrunched;
+	}
+}
@@ -5,6 +5,11 @@
  */
 public class Collision {
 
+	/**
+	 * Returned by {@link #timeOfImpact} if the cars do not touch.
+	 */
+	public static final double NO_IMPACT = Double.POSITIVE_INFINITY;
+
 	protected final Car car1;
 	protected final Car car2;
 	private final boolean crash;
@@ -20,34 +25,113 @@ public boolean isCrash() {
 	}
 
 	public boolean detectCollision() {
-		Point2D p1 = car1.getPosition();
-		Dimension2D d1 = car1.getSize();
+		return detectCollision(this.car1, this.car2);
+	}
 
-		Point2D p2 = car2.getPosition();
+	/**
+	 * Checks if the two cars overlap, without creating a {@link Collision}. Used
+	 * on the tick path, where a collision object per car pair would allocate.
+	 *
+	 * @param car1 the first car
+	 * @param car2 the second car
+	 * @return true if the bounding boxes of the cars overlap or touch
+	 */
+	public static boolean detectCollision(Car car1, Car car2) {
+		Dimension2D d1 = car1.getSize();
 		Dimension2D d2 = car2.getSize();
 
-		boolean above = p1.getY() + d1.getHeight() < p2.getY();
-		boolean below = p1.getY() > p2.getY() + d2.getHeight();
-		boolean right = p1.getX() + d1.getWidth() < p2.getX();
-		boolean left = p1.getX() > p2.getX() + d2.getWidth();
+		boolean above = car1.getY() + d1.getHeight() < car2.getY();
+		boolean below = car1.getY() > car2.getY() + d2.getHeight();
+		boolean right = car1.getX() + d1.getWidth() < car2.getX();
+		boolean left = car1.getX() > car2.getX() + d2.getWidth();
 
 		return !above && !below && !right && !left;
 	}
 
+	/**
+	 * Calculates when two bounding boxes moving in a straight line during one tick
+	 * first touch, so that a fast car cannot pass through a thin car between two
+	 * ticks. Touching counts as an impact, like in
+	 * {@link #detectCollision(Car, Car)}.
+	 *
+	 * @param x1      the x coordinate of the first box at the start of the tick
+	 * @param y1      the y coordinate of the first box at the start of the tick
+	 * @param dx1     how far the first box moves along the x axis in the tick
+	 * @param dy1     how far the first box moves along the y axis in the tick
+	 * @param width1  the width of the first box
+	 * @param height1 the height of the first box
+	 * @param x2      the x coordinate of the second box at the start of the tick
+	 * @param y2      the y coordinate of the second box at the start of the tick
+	 * @param dx2     how far the second box moves along the x axis in the tick
+	 * @param dy2     how far the second box moves along the y axis in the tick
+	 * @param width2  the width of the second box
+	 * @param height2 the height of the second box
+	 * @return the earliest time of impact as a fraction of the tick between 0
+	 *         and 1, or {@link #NO_IMPACT} if the boxes do not touch during the
+	 *         tick
+	 */
+	public static double timeOfImpact(double x1, double y1, double dx1, double dy1, double width1, double height1,
+			double x2, double y2, double dx2, double dy2, double width2, double height2) {
+		// move the first box relative to the second one, which then stands still
+		double relativeDx = dx1 - dx2;
+		double relativeDy = dy1 - dy2;
+		double distanceX = x1 - x2;
+		double distanceY = y1 - y2;
+
+		double enterX = entryTime(distanceX, relativeDx, width1, width2);
+		double exitX = exitTime(distanceX, relativeDx, width1, width2);
+		double enterY = entryTime(distanceY, relativeDy, height1, height2);
+		double exitY = exitTime(distanceY, relativeDy, height1, height2);
+
+		double enter = Math.max(enterX, enterY);
+		double exit = Math.min(exitX, exitY);
+		if (enter > exit || exit < 0 || enter > 1) {
+			return NO_IMPACT;
+		}
+		return Math.max(enter, 0);
+	}
+
+	/**
+	 * Calculates when the boxes start to overlap on one axis. The boxes overlap
+	 * while {@code -size1 <= distance + velocity * t <= size2}.
+	 */
+	private static double entryTime(double distance, double velocity, double size1, double size2) {
+		if (velocity == 0) {
+			return -size1 <= distance && distance <= size2 ? Double.NEGATIVE_INFINITY : NO_IMPACT;
+		}
+		return Math.min((-size1 - distance) / velocity, (size2 - distance) / velocity);
+	}
+
+	private static double exitTime(double distance, double velocity, double size1, double size2) {
+		if (velocity == 0) {
+			return -size1 <= distance && distance <= size2 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+		}
+		return Math.max((-size1 - distance) / velocity, (size2 - distance) / velocity);
+	}
+
 	/**
 	 * Evaluates winner of the collision.
 	 *
 	 * @return winner Car
 	 */
 	public Car evaluate() {
-		Point2D p1 = this.car1.getPosition();
-		Point2D p2 = this.car2.getPosition();
+		return evaluate(this.car1, this.car2);
+	}
 
+	/**
+	 * Evaluates the winner of a collision of the two cars, without creating a
+	 * {@link Collision}.
+	 *
+	 * @param car1 the first car
+	 * @param car2 the second car
+	 * @return winner Car
+	 */
+	public static Car evaluate(Car car1, Car car2) {
 		Car winnerCar = null;
-		if (p1.getX() > p2.getX()) {
-			winnerCar = this.car2;
+		if (car1.getX() > car2.getX()) {
+			winnerCar = car2;
 		} else {
-			winnerCar = this.car1;
+			winnerCar = car1;
 		}
 		return winnerCar;
 	}
@@ -0,0 +1,21 @@
+package de.tum.in.ase.eist;
+
+/**
+ * Gets notified about every crash detected by {@link GameBoard#update()}.
+ */
+@FunctionalInterface
+public interface CollisionListener {
+
+	/**
+	 * Called on the simulation thread for every crash, in the same order for
+	 * sequential and parallel collision detection.
+	 *
+	 * @param gameBoard  the game board the crash happened on
+	 * @param car1       the first car
+	 * @param car2       the second car
+	 * @param winner     the winner according to {@link Collision#evaluate(Car, Car)}
+	 * @param impactTime the fraction of the tick at which the cars first touched,
+	 *                   1 unless swept collisions are enabled
+	 */
+	void crashed(GameBoard gameBoard, Car car1, Car car2, Car winner, double impactTime);
+}
@@ -1,5 +1,7 @@
 package de.tum.in.ase.eist;
 
+import java.util.Random;
+
 public class FastCar extends Car {
 
 	private static final String FAST_CAR_IMAGE_FILE = "FastCar.gif";
@@ -8,10 +10,35 @@ public class FastCar extends Car {
 	private static final int MAX_SPEED_FAST_CAR = 10;
 
 	public FastCar(Dimension2D gameBoardSize) {
-		super(gameBoardSize);
+		this(gameBoardSize, null);
+	}
+
+	/**
+	 * Creates a car that draws its random position, direction and speed from the
+	 * given source.
+	 *
+	 * @param gameBoardSize dimensions of the game board
+	 * @param random        the source of random values, null to use
+	 *                      {@link java.util.concurrent.ThreadLocalRandom}
+	 */
+	public FastCar(Dimension2D gameBoardSize, Random random) {
+		super(gameBoardSize, random);
 		setMinSpeed(MIN_SPEED_FAST_CAR);
 		setMaxSpeed(MAX_SPEED_FAST_CAR);
 		setRandomSpeed();
 		setIconLocation(FAST_CAR_IMAGE_FILE);
 	}
+
+	/**
+	 * Creates a car without drawing any random values, for
+	 * {@link GameBoardCheckpoint} to restore its state.
+	 *
+	 * @param random the source of later random values
+	 */
+	FastCar(Random random) {
+		super(random);
+		setMinSpeed(MIN_SPEED_FAST_CAR);
+		setMaxSpeed(MAX_SPEED_FAST_CAR);
+		setIconLocation(FAST_CAR_IMAGE_FILE);
+	}
 }
@@ -2,8 +2,18 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.tum.in.ase.eist.audio.AudioPlayerInterface;
+import de.tum.in.ase.eist.broadphase.BoundingBoxes;
+import de.tum.in.ase.eist.broadphase.BroadPhase;
+import de.tum.in.ase.eist.broadphase.PairConsumer;
+import de.tum.in.ase.eist.broadphase.PairList;
+import de.tum.in.ase.eist.jfr.CrashEvent;
+import de.tum.in.ase.eist.jfr.TickEvent;
+import de.tum.in.ase.eist.metrics.TickMetrics;
 
 /**
  * Creates all car objects, detects collisions, updates car positions, notifies
@@ -12,6 +22,8 @@
 public class GameBoard {
 
 	private static final int NUMBER_OF_SLOW_CARS = 5;
+	private static final int NO_INPUT = -1;
+	private static final double END_OF_TICK = 1.0;
 
 	/**
 	 * List of all active cars, does not contain player car.
@@ -34,9 +46,111 @@ public class GameBoard {
 	private final Dimension2D size;
 
 	/**
-	 * true if game is running, false if game is stopped.
+	 * true if game is running, false if game is stopped. Written by the UI thread
+	 * and read by the simulation thread.
 	 */
-	private boolean running;
+	private volatile boolean running;
+
+	/**
+	 * The source of all random values of the cars, null if they use
+	 * {@link java.util.concurrent.ThreadLocalRandom}.
+	 */
+	private final Random random;
+
+	/**
+	 * The number of ticks since the game board was created or reset.
+	 */
+	private long tick;
+
+	/**
+	 * Direction requested by the player for the next tick, {@link #NO_INPUT} if
+	 * there is none.
+	 */
+	private final AtomicInteger pendingPlayerDirection = new AtomicInteger(NO_INPUT);
+
+	/**
+	 * Log every applied player input is recorded to, null to not record.
+	 */
+	private InputLog inputRecording;
+
+	/**
+	 * Log whose inputs are applied at their ticks, null if nothing is replayed.
+	 */
+	private InputLog inputReplay;
+	private int replayPosition;
+
+	/**
+	 * Listeners notified after every tick.
+	 */
+	private final List<TickListener> tickListeners = new ArrayList<>();
+
+	/**
+	 * Listener notified about every crash, null to not notify anyone.
+	 */
+	private CollisionListener collisionListener;
+
+	/**
+	 * Columnar store holding the state of the player car (slot 0) and all other
+	 * cars (slots 1 to n), null if the cars keep their state in their own fields.
+	 */
+	private CarStore carStore;
+
+	/**
+	 * Strategy that finds candidate pairs if every car can collide with every
+	 * other car, null if only the player car can collide.
+	 */
+	private BroadPhase broadPhase;
+
+	private final BoundingBoxes boundingBoxes = new BoundingBoxes();
+
+	/**
+	 * true if fast cars are checked along their whole path through the tick,
+	 * false if cars are only checked at their positions at the end of the tick.
+	 */
+	private boolean sweptCollisions;
+
+	/**
+	 * Positions of all cars at the start of the current tick, indexed like in
+	 * {@link #detectAllCollisions()}. Only kept up to date with swept collisions.
+	 */
+	private double[] previousX = new double[0];
+	private double[] previousY = new double[0];
+
+	private final PairConsumer candidatePairHandler = this::checkCandidatePair;
+
+	/**
+	 * Pool that runs the drive and collision phases in parallel, null to run them
+	 * on the calling thread.
+	 */
+	private ForkJoinPool forkJoinPool;
+
+	private final PairList candidatePairs = new PairList();
+
+	/**
+	 * Crashes found by the parallel collision phase, one mark per car or candidate
+	 * pair.
+	 */
+	private boolean[] crashMarks = new boolean[0];
+
+	private final ParallelRange.Body driveRange = this::driveCars;
+	private final ParallelRange.Body playerCollisionRange = this::markPlayerCollisions;
+	private final ParallelRange.Body candidatePairRange = this::markCandidatePairCollisions;
+
+	/**
+	 * Latency histograms of the tick phases, null if no metrics are recorded.
+	 */
+	private TickMetrics tickMetrics;
+
+	/**
+	 * Time spent in {@link AudioPlayerInterface#playCrashSound()} during the
+	 * current tick.
+	 */
+	private long crashSoundNanos;
+
+	/**
+	 * Number of crashes reported during the current tick.
+	 */
+	private int crashesInTick;
 
 	/**
 	 * Creates the game board based on the given size.
@@ -44,21 +158,116 @@ public class GameBoard {
 	 * @param size of the game board
 	 */
 	public GameBoard(Dimension2D size) {
+		this(size, null);
+	}
+
+	/**
+	 * Creates the game board based on the given size, with all cars drawn from a
+	 * random source with the given seed. Boards created with the same seed and
+	 * size are identical, and so are their games if they get the same inputs.
+	 *
+	 * @param size of the game board
+	 * @param seed the seed of the random source
+	 */
+	public GameBoard(Dimension2D size, long seed) {
+		this(size, new Random(seed));
+	}
+
+	private GameBoard(Dimension2D size, Random random) {
+		this(size, random, true);
+	}
+
+	/**
+	 * Creates the game board with the player car, used by {@link ScenarioLoader}
+	 * to add its own fleet.
+	 *
+	 * @param size        of the game board
+	 * @param random      the source of random values, null to use
+	 *                    {@link java.util.concurrent.ThreadLocalRandom}
+	 * @param defaultCars true to add the {@link #NUMBER_OF_SLOW_CARS} default cars
+	 */
+	GameBoard(Dimension2D size, Random random, boolean defaultCars) {
 		this.size = size;
-		FastCar playerCar = new FastCar(size);
+		this.random = random;
+		FastCar playerCar = new FastCar(size, random);
 		this.player = new Player(playerCar);
 		this.player.setup();
-		createCars();
+		if (defaultCars) {
+			createCars(random);
+		}
+	}
+
+	/**
+	 * Creates a game board from restored state, used by
+	 * {@link GameBoardCheckpoint}.
+	 *
+	 * @param size      of the game board
+	 * @param random    the source of random values the restored cars were created
+	 *                  with, so that {@link #reset(long)} reseeds all of them
+	 * @param playerCar the car of the player
+	 * @param cars      all other cars
+	 * @param tick      the number of ticks the board had run
+	 */
+	GameBoard(Dimension2D size, Random random, Car playerCar, List<Car> cars, long tick) {
+		this.size = size;
+		this.random = random;
+		this.player = new Player(playerCar);
+		this.cars.addAll(cars);
+		this.tick = tick;
 	}
 
 	/**
 	 * Creates as many cars as specified by {@link #NUMBER_OF_SLOW_CARS} and adds
 	 * them to the cars list.
+	 *
+	 * @param random the source of random values, null to use
+	 *               {@link java.util.concurrent.ThreadLocalRandom}
 	 */
-	private void createCars() {
+	private void createCars(Random random) {
 		for (int i = 0; i < NUMBER_OF_SLOW_CARS; i++) {
-			this.cars.add(new SlowCar(this.size));
+			this.cars.add(new SlowCar(this.size, random));
+		}
+	}
+
+	/**
+	 * Puts the game board back into the state of a game board newly created with
+	 * the given seed, reusing the player, all cars and everything else. The board
+	 * is identical to a new one as long as it has the default cars.
+	 *
+	 * @param seed the seed of the random source
+	 * @throws IllegalStateException if the game is running or the game board was
+	 *                               created without a seed
+	 */
+	public void reset(long seed) {
+		if (this.running) {
+			throw new IllegalStateException("The game must be stopped before it is reset.");
+		}
+		if (this.random == null) {
+			throw new IllegalStateException("Only a game board created with a seed can be reset to a seed.");
+		}
+		this.random.setSeed(seed);
+		reset();
+	}
+
+	/**
+	 * Puts all cars back into their initial state with new random values and the
+	 * tick counter back to 0. Pending and replayed inputs are dropped.
+	 *
+	 * @throws IllegalStateException if the game is running
+	 */
+	public void reset() {
+		if (this.running) {
+			throw new IllegalStateException("The game must be stopped before it is reset.");
 		}
+		this.player.getCar().reset(this.size);
+		this.player.setup();
+		for (Car car : this.cars) {
+			car.reset(this.size);
+		}
+		this.tick = 0;
+		this.pendingPlayerDirection.set(NO_INPUT);
+		this.inputReplay = null;
+		this.replayPosition = 0;
 	}
 
 	public Dimension2D getSize() {
@@ -106,11 +315,223 @@ public void setAudioPlayer(AudioPlayerInterface audioPlayer) {
 		this.audioPlayer = audioPlayer;
 	}
 
+	/**
+	 * Moves the state of the player car and all other cars into a columnar
+	 * {@link CarStore}. Afterwards cars are driven and checked for collisions in
+	 * slot order without allocating. Should be called once the fleet is complete,
+	 * cars added later are not part of the store.
+	 *
+	 * @throws IllegalStateException if a car store is already in use
+	 */
+	public void useCarStore() {
+		if (this.carStore != null) {
+			throw new IllegalStateException("The game board already uses a car store.");
+		}
+		CarStore store = new CarStore(this.cars.size() + 1);
+		this.player.getCar().attachTo(store);
+		for (Car car : this.cars) {
+			car.attachTo(store);
+		}
+		this.carStore = store;
+	}
+
+	/**
+	 * Returns the columnar car store of this game board.
+	 *
+	 * @return the car store, or null if {@link #useCarStore()} was not called
+	 */
+	public CarStore getCarStore() {
+		return this.carStore;
+	}
+
+	public BroadPhase getBroadPhase() {
+		return this.broadPhase;
+	}
+
+	/**
+	 * Sets the broad-phase strategy used to find colliding cars. With a strategy,
+	 * every car can collide with every other car. Without one (the default), only
+	 * the player car is checked against all other cars.
+	 *
+	 * @param broadPhase the strategy to use, null to only check the player car
+	 */
+	public void setBroadPhase(BroadPhase broadPhase) {
+		this.broadPhase = broadPhase;
+	}
+
+	public boolean isSweptCollisions() {
+		return this.sweptCollisions;
+	}
+
+	/**
+	 * Sets whether pairs of cars that move further relative to each other in one
+	 * tick than they are large are checked along their whole path instead of only
+	 * at the end of the tick. This catches a fast car passing through a thin car
+	 * between two ticks. Cars are assumed to move in a straight line within a
+	 * tick, a bounce off a border shortens the checked path.
+	 *
+	 * @param sweptCollisions true to check fast pairs along their path
+	 */
+	public void setSweptCollisions(boolean sweptCollisions) {
+		this.sweptCollisions = sweptCollisions;
+	}
+
+	public ForkJoinPool getForkJoinPool() {
+		return this.forkJoinPool;
+	}
+
+	/**
+	 * Sets the pool that runs the drive phase and the exact collision checks of
+	 * each tick in parallel. Crashes are still reported in the same order as
+	 * sequentially, so a parallel run ends with exactly the same board. Small
+	 * fleets are always handled sequentially.
+	 *
+	 * @param forkJoinPool the pool to use, null to run everything on the calling
+	 *                     thread
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	public TickMetrics getTickMetrics() {
+		return this.tickMetrics;
+	}
+
+	/**
+	 * Sets the histograms that record how long each tick and its drive,
+	 * collision and audio phases take.
+	 *
+	 * @param tickMetrics the metrics to record into, null to record nothing
+	 */
+	public void setTickMetrics(TickMetrics tickMetrics) {
+		this.tickMetrics = tickMetrics;
+	}
+
+	/**
+	 * Returns the number of ticks since the game board was created or reset.
+	 *
+	 * @return the current tick
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	/**
+	 * Steers the player car into the given direction. The input takes effect at
+	 * the start of the next tick, so that it can be recorded and replayed at
+	 * exactly the same point of the game. Can be called from any thread, if
+	 * several inputs arrive within one tick only the last one is applied.
+	 *
+	 * @param direction the new direction in degrees (must be between 0 and 360)
+	 * @throws IllegalArgumentException if the direction is lower than 0 or higher
+	 *                                  than 360.
+	 */
+	public void steerPlayer(int direction) {
+		if (direction < 0 || direction >= Car.MAX_ANGLE) {
+			throw new IllegalArgumentException("Direction must be between 0 (inclusive) and 360 (exclusive)");
+		}
+		this.pendingPlayerDirection.set(direction);
+	}
+
+	/**
+	 * Adds a listener that is notified after every tick.
+	 *
+	 * @param listener the listener to add
+	 */
+	public void addTickListener(TickListener listener) {
+		this.tickListeners.add(listener);
+	}
+
+	public void removeTickListener(TickListener listener) {
+		this.tickListeners.remove(listener);
+	}
+
+	public CollisionListener getCollisionListener() {
+		return this.collisionListener;
+	}
+
+	/**
+	 * Sets the listener that is notified about every crash on the simulation
+	 * thread. A new game board has no listener. To log crashes without slowing
+	 * down the tick, use a {@link de.tum.in.ase.eist.events.CollisionEventBus}
+	 * with a {@link de.tum.in.ase.eist.events.CrashLogger}.
+	 *
+	 * @param collisionListener the listener, null to not notify anyone
+	 */
+	public void setCollisionListener(CollisionListener collisionListener) {
+		this.collisionListener = collisionListener;
+	}
+
+	/**
+	 * Records every player input applied from now on.
+	 *
+	 * @param inputRecording the log to record to, null to stop recording
+	 */
+	public void setInputRecording(InputLog inputRecording) {
+		this.inputRecording = inputRecording;
+	}
+
+	/**
+	 * Applies the inputs of the log at their ticks, starting with the current
+	 * tick. To reproduce a recorded game, replay its log on a new game board
+	 * created with the seed and size of the log.
+	 *
+	 * @param inputReplay the log to replay, null to stop replaying
+	 */
+	public void replay(InputLog inputReplay) {
+		this.inputReplay = inputReplay;
+		this.replayPosition = 0;
+		while (inputReplay != null && this.replayPosition < inputReplay.size()
+				&& inputReplay.getTick(this.replayPosition) < this.tick) {
+			this.replayPosition++;
+		}
+	}
+
+	/**
+	 * Applies the input for the current tick, either from the replayed log or
+	 * from {@link #steerPlayer(int)}.
+	 */
+	private void applyPlayerInput() {
+		int direction = this.pendingPlayerDirection.getAndSet(NO_INPUT);
+		while (this.inputReplay != null && this.replayPosition < this.inputReplay.size()
+				&& this.inputReplay.getTick(this.replayPosition) == this.tick) {
+			direction = this.inputReplay.getDirection(this.replayPosition++);
+		}
+		if (direction == NO_INPUT) {
+			return;
+		}
+		this.player.getCar().setDirection(direction);
+		if (this.inputRecording != null) {
+			this.inputRecording.record(this.tick, direction);
+		}
+	}
+
 	/**
 	 * Updates the position of each car.
 	 */
 	public void update() {
-		moveCars();
+		TickEvent tickEvent = new TickEvent();
+		tickEvent.begin();
+		this.crashesInTick = 0;
+		applyPlayerInput();
+		if (this.tickMetrics == null) {
+			moveCars();
+		} else {
+			long start = System.nanoTime();
+			this.tickMetrics.recordTickStart(start);
+			moveCars();
+			this.tickMetrics.getTick().record(System.nanoTime() - start);
+		}
+		this.tick++;
+		for (int i = 0; i < this.tickListeners.size(); i++) {
+			this.tickListeners.get(i).tickCompleted(this);
+		}
+		tickEvent.end();
+		if (tickEvent.shouldCommit()) {
+			tickEvent.cars = this.cars.size() + 1;
+			tickEvent.crashes = this.crashesInTick;
+			tickEvent.commit();
+		}
 	}
 
 	/**
@@ -147,39 +568,310 @@ public void stopMusic() {
 	 * Moves all cars on this game board one step further.
 	 */
 	public void moveCars() {
-		// update the positions of the player car and the autonomous cars
-		for (Car car : this.cars) {
-			car.drive(size);
+		if (this.tickMetrics == null) {
+			driveAllCars();
+			detectCollisions();
+			return;
+		}
+		long driveStart = System.nanoTime();
+		driveAllCars();
+		long collisionStart = System.nanoTime();
+		this.crashSoundNanos = 0;
+		detectCollisions();
+		long collisionEnd = System.nanoTime();
+
+		this.tickMetrics.getDrive().record(collisionStart - driveStart);
+		this.tickMetrics.getCollision().record(collisionEnd - collisionStart - this.crashSoundNanos);
+		this.tickMetrics.getAudio().record(this.crashSoundNanos);
+	}
+
+	/**
+	 * Updates the positions of the player car and the autonomous cars.
+	 */
+	private void driveAllCars() {
+		if (this.sweptCollisions) {
+			rememberPositions();
+		}
+		if (this.forkJoinPool != null && this.cars.size() > ParallelRange.CHUNK_SIZE) {
+			this.forkJoinPool.invoke(new ParallelRange(this.driveRange, 0, this.cars.size()));
+		} else {
+			driveCars(0, this.cars.size());
 		}
 		this.player.getCar().drive(size);
+	}
 
+	/**
+	 * Copies the positions of all cars before they are driven, for the swept
+	 * collision checks.
+	 */
+	private void rememberPositions() {
+		int count = this.cars.size() + 1;
+		if (this.previousX.length < count) {
+			this.previousX = new double[Math.max(count, this.previousX.length * 2)];
+			this.previousY = new double[this.previousX.length];
+		}
+		for (int i = 0; i < count; i++) {
+			this.previousX[i] = xOf(i);
+			this.previousY[i] = yOf(i);
+		}
+	}
+
+	/**
+	 * Detects and reports all crashes after the cars moved.
+	 */
+	private void detectCollisions() {
+		if (this.broadPhase != null) {
+			detectAllCollisions();
+			return;
+		}
+
+		if (this.forkJoinPool != null && this.cars.size() > ParallelRange.CHUNK_SIZE) {
+			detectPlayerCollisionsInParallel();
+			return;
+		}
 		// iterate through all cars (except player car) and check if it is crunched
-		for (Car car : cars) {
-			if (car.isCrunched()) {
-				// because there is no need to check for a collision
-				continue;
+		for (int i = 0; i < this.cars.size(); i++) {
+			if (collidesWithPlayer(i)) {
+				reportCrash(0, i + 1);
 			}
+		}
+	}
 
-			Collision collision = new Collision(player.getCar(), car);
+	/**
+	 * Drives the cars with the given indices of {@link #cars}.
+	 *
+	 * @param from the first index (inclusive)
+	 * @param to   the last index (exclusive)
+	 */
+	private void driveCars(int from, int to) {
+		// indexed loops because an iterator would allocate on every tick
+		if (this.carStore != null) {
+			// slot 0 is the player car, so car i lives in slot i + 1
+			this.carStore.drive(from + 1, to + 1, this.size.getWidth(), this.size.getHeight());
+			return;
+		}
+		for (int i = from; i < to; i++) {
+			this.cars.get(i).drive(size);
+		}
+	}
 
-			if (collision.isCrash()) {
-				Car winner = collision.evaluate();
-				printWinner(winner);
-				getAudioPlayer().playCrashSound();
+	/**
+	 * Checks whether the player car crashes into the car with the given index of
+	 * {@link #cars}. Crunched cars are skipped because there is no need to check
+	 * them for a collision.
+	 */
+	private boolean collidesWithPlayer(int index) {
+		if (this.sweptCollisions) {
+			return collides(0, index + 1);
+		}
+		if (this.carStore != null) {
+			return !this.carStore.isCrunched(index + 1) && this.carStore.overlaps(0, index + 1);
+		}
+		Car car = this.cars.get(index);
+		return !car.isCrunched() && Collision.detectCollision(this.player.getCar(), car);
+	}
 
-				// TODO Backlog Item 12: Play crash sound
-				// Hint: take a look at AudioPlayer
+	/**
+	 * Checks the player car against all other cars in parallel. Every chunk only
+	 * marks the crashes of its own cars, and the crashes are reported afterwards
+	 * in the order of {@link #cars}, just like sequentially.
+	 */
+	private void detectPlayerCollisionsInParallel() {
+		ensureCrashMarkCapacity(this.cars.size());
+		this.forkJoinPool.invoke(new ParallelRange(this.playerCollisionRange, 0, this.cars.size()));
+		for (int i = 0; i < this.cars.size(); i++) {
+			if (this.crashMarks[i]) {
+				reportCrash(0, i + 1);
 			}
 		}
 	}
 
-	private void printWinner(Car winner) {
-		if (winner == this.player.getCar()) {
-			System.out.println("The player's car won the collision!");
-		} else if (winner != null) {
-			System.out.println(winner.getClass().getSimpleName() + " won the collision!");
+	private void markPlayerCollisions(int from, int to) {
+		for (int i = from; i < to; i++) {
+			this.crashMarks[i] = collidesWithPlayer(i);
+		}
+	}
+
+	/**
+	 * Lets the broad-phase find all candidate pairs among all cars and checks each
+	 * of them exactly. Index 0 is the player car, index i the (i-1)-th car of
+	 * {@link #cars}.
+	 */
+	private void detectAllCollisions() {
+		this.boundingBoxes.reset(this.cars.size() + 1);
+		if (this.sweptCollisions) {
+			setSweptBoundingBoxes();
+		} else if (this.carStore != null) {
+			for (int i = 0; i < this.carStore.size(); i++) {
+				this.boundingBoxes.set(i, this.carStore.getX(i), this.carStore.getY(i), this.carStore.getWidth(i),
+						this.carStore.getHeight(i));
+			}
 		} else {
-			System.err.println("Winner car was null!");
+			setBoundingBox(0, this.player.getCar());
+			for (int i = 0; i < this.cars.size(); i++) {
+				setBoundingBox(i + 1, this.cars.get(i));
+			}
+		}
+		if (this.forkJoinPool == null) {
+			this.broadPhase.findPairs(this.boundingBoxes, this.candidatePairHandler);
+			return;
+		}
+		// the broad-phase itself is sequential, only the exact checks run in parallel
+		this.candidatePairs.clear();
+		this.broadPhase.findPairs(this.boundingBoxes, this.candidatePairs);
+		ensureCrashMarkCapacity(this.candidatePairs.size());
+		this.forkJoinPool.invoke(new ParallelRange(this.candidatePairRange, 0, this.candidatePairs.size()));
+		for (int i = 0; i < this.candidatePairs.size(); i++) {
+			if (this.crashMarks[i]) {
+				reportCrash(this.candidatePairs.getFirst(i), this.candidatePairs.getSecond(i));
+			}
+		}
+	}
+
+	private void setBoundingBox(int index, Car car) {
+		this.boundingBoxes.set(index, car.getX(), car.getY(), car.getSize().getWidth(), car.getSize().getHeight());
+	}
+
+	/**
+	 * Sets the bounding box of every car to the area it swept through during the
+	 * tick, so that the broad-phase also finds pairs that only touched in between.
+	 */
+	private void setSweptBoundingBoxes() {
+		for (int i = 0; i < this.cars.size() + 1; i++) {
+			double x = xOf(i);
+			double y = yOf(i);
+			double dx = x - this.previousX[i];
+			double dy = y - this.previousY[i];
+			this.boundingBoxes.set(i, Math.min(x, this.previousX[i]), Math.min(y, this.previousY[i]),
+					widthOf(i) + Math.abs(dx), heightOf(i) + Math.abs(dy));
+		}
+	}
+
+	private void checkCandidatePair(int first, int second) {
+		if (collides(first, second)) {
+			reportCrash(first, second);
+		}
+	}
+
+	private void markCandidatePairCollisions(int from, int to) {
+		for (int i = from; i < to; i++) {
+			this.crashMarks[i] = collides(this.candidatePairs.getFirst(i), this.candidatePairs.getSecond(i));
+		}
+	}
+
+	/**
+	 * Checks whether the two cars crash, using the indices of
+	 * {@link #detectAllCollisions()}.
+	 */
+	private boolean collides(int first, int second) {
+		if (this.sweptCollisions) {
+			return impactTime(first, second) != Collision.NO_IMPACT;
+		}
+		if (this.carStore != null) {
+			return !this.carStore.isCrunched(first) && !this.carStore.isCrunched(second)
+					&& this.carStore.overlaps(first, second);
+		}
+		Car car1 = carAt(first);
+		Car car2 = carAt(second);
+		return !car1.isCrunched() && !car2.isCrunched() && Collision.detectCollision(car1, car2);
+	}
+
+	/**
+	 * Calculates when in the current tick the two cars first touched, using the
+	 * indices of {@link #detectAllCollisions()}. Pairs that moved less relative to
+	 * each other than they are large are only checked at the end of the tick.
+	 *
+	 * @return the time of impact as a fraction of the tick, or
+	 *         {@link Collision#NO_IMPACT} if the cars do not crash
+	 */
+	private double impactTime(int first, int second) {
+		if (isCrunched(first) || isCrunched(second)) {
+			return Collision.NO_IMPACT;
+		}
+		double x1 = xOf(first);
+		double y1 = yOf(first);
+		double x2 = xOf(second);
+		double y2 = yOf(second);
+		double width1 = widthOf(first);
+		double height1 = heightOf(first);
+		double width2 = widthOf(second);
+		double height2 = heightOf(second);
+		boolean overlap = x1 <= x2 + width2 && x2 <= x1 + width1 && y1 <= y2 + height2 && y2 <= y1 + height1;
+		if (this.sweptCollisions) {
+			double dx1 = x1 - this.previousX[first];
+			double dy1 = y1 - this.previousY[first];
+			double dx2 = x2 - this.previousX[second];
+			double dy2 = y2 - this.previousY[second];
+			if (Math.abs(dx1 - dx2) > Math.min(width1, width2) || Math.abs(dy1 - dy2) > Math.min(height1, height2)) {
+				double impactTime = Collision.timeOfImpact(this.previousX[first], this.previousY[first], dx1, dy1,
+						width1, height1, this.previousX[second], this.previousY[second], dx2, dy2, width2, height2);
+				// touching at the start of the tick was already reported by the last tick
+				return impactTime > 0 || overlap ? impactTime : Collision.NO_IMPACT;
+			}
+		}
+		return overlap ? END_OF_TICK : Collision.NO_IMPACT;
+	}
+
+	private Car carAt(int index) {
+		return index == 0 ? this.player.getCar() : this.cars.get(index - 1);
+	}
+
+	private double xOf(int index) {
+		return this.carStore != null ? this.carStore.getX(index) : carAt(index).getX();
+	}
+
+	private double yOf(int index) {
+		return this.carStore != null ? this.carStore.getY(index) : carAt(index).getY();
+	}
+
+	private double widthOf(int index) {
+		return this.carStore != null ? this.carStore.getWidth(index) : carAt(index).getSize().getWidth();
+	}
+
+	private double heightOf(int index) {
+		return this.carStore != null ? this.carStore.getHeight(index) : carAt(index).getSize().getHeight();
+	}
+
+	private boolean isCrunched(int index) {
+		return this.carStore != null ? this.carStore.isCrunched(index) : carAt(index).isCrunched();
+	}
+
+	private void ensureCrashMarkCapacity(int capacity) {
+		if (this.crashMarks.length < capacity) {
+			this.crashMarks = new boolean[Math.max(capacity, this.crashMarks.length * 2)];
+		}
+	}
+
+	/**
+	 * Reports a crash of the two cars, using the indices of
+	 * {@link #detectAllCollisions()}.
+	 */
+	private void reportCrash(int first, int second) {
+		Car car1 = carAt(first);
+		Car car2 = carAt(second);
+		Car winner = Collision.evaluate(car1, car2);
+		double impactTime = this.sweptCollisions ? impactTime(first, second) : END_OF_TICK;
+		this.crashesInTick++;
+		CrashEvent crashEvent = new CrashEvent();
+		if (crashEvent.shouldCommit()) {
+			crashEvent.impactTime = impactTime;
+			crashEvent.firstCar = car1.getClass().getSimpleName();
+			crashEvent.secondCar = car2.getClass().getSimpleName();
+			crashEvent.winner = winner.getClass().getSimpleName();
+			crashEvent.playerInvolved = car1 == this.player.getCar() || car2 == this.player.getCar();
+			crashEvent.x = winner.getX();
+			crashEvent.y = winner.getY();
+			crashEvent.commit();
+		}
+		if (this.collisionListener != null) {
+			this.collisionListener.crashed(this, car1, car2, winner, impactTime);
+		}
+		if (this.tickMetrics == null) {
+			getAudioPlayer().playCrashSound();
+			return;
 		}
+		long soundStart = System.nanoTime();
+		getAudioPlayer().playCrashSound();
+		this.crashSoundNanos += System.nanoTime() - soundStart;
 	}
 }
@@ -0,0 +1,191 @@
+package de.tum.in.ase.eist;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Saves the complete state of a {@link GameBoard} into a compact binary file
+ * and restores it, so that large boards can be warm-started instead of being
+ * generated again.
+ * <p>
+ * The file starts with the magic number, the format version, the board size,
+ * the running flag, the current tick and the number of cars. It is followed by
+ * one fixed-size record per car, the player car first: type, crunched flag,
+ * position, size, direction, speed, minimum and maximum speed.
+ * <p>
+ * The seed of the saved board is not part of the checkpoint. All restored cars
+ * share a new random source of the restored board, so
+ * {@link GameBoard#reset(long)} starts a reproducible game from a seed.
+ */
+public final class GameBoardCheckpoint {
+
+	private static final int MAGIC = 0x424D5053;
+	private static final short VERSION = 1;
+
+	private static final byte SLOW_CAR = 0;
+	private static final byte FAST_CAR = 1;
+
+	private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + 2 * Double.BYTES + Byte.BYTES + Long.BYTES
+			+ Integer.BYTES;
+	private static final int RECORD_SIZE = 2 * Byte.BYTES + 4 * Double.BYTES + Short.BYTES + 3 * Integer.BYTES;
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+	private GameBoardCheckpoint() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	/**
+	 * Saves a game board. An existing file is replaced.
+	 *
+	 * @param gameBoard the game board to save, must not be updated while saving
+	 * @param path      the checkpoint file
+	 * @throws IOException              if the file cannot be written
+	 * @throws IllegalArgumentException if a car is neither a {@link SlowCar} nor
+	 *                                  a {@link FastCar}
+	 */
+	public static void save(GameBoard gameBoard, Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+			List<Car> cars = gameBoard.getCars();
+			buffer.putInt(MAGIC);
+			buffer.putShort(VERSION);
+			buffer.putDouble(gameBoard.getSize().getWidth());
+			buffer.putDouble(gameBoard.getSize().getHeight());
+			buffer.put((byte) (gameBoard.isRunning() ? 1 : 0));
+			buffer.putLong(gameBoard.getTick());
+			buffer.putInt(cars.size() + 1);
+			putCar(buffer, gameBoard.getPlayerCar());
+			for (Car car : cars) {
+				if (buffer.remaining() < RECORD_SIZE) {
+					flush(buffer, channel);
+				}
+				putCar(buffer, car);
+			}
+			flush(buffer, channel);
+		}
+	}
+
+	/**
+	 * Restores a saved game board. The board does not have an audio player and
+	 * keeps the state of its cars in their own fields, call
+	 * {@link GameBoard#useCarStore()} to move them into a car store again.
+	 *
+	 * @param path the checkpoint file
+	 * @return the restored game board
+	 * @throws IOException if the file cannot be read or is not a checkpoint of
+	 *                     this version
+	 */
+	public static GameBoard load(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long fileSize = channel.size();
+			if (fileSize < HEADER_SIZE) {
+				throw new IOException(path + " is not a game board checkpoint.");
+			}
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+			if (buffer.getInt() != MAGIC) {
+				throw new IOException(path + " is not a game board checkpoint.");
+			}
+			short version = buffer.getShort();
+			if (version != VERSION) {
+				throw new IOException("Unsupported checkpoint version " + version + ".");
+			}
+			Dimension2D size = new Dimension2D(buffer.getDouble(), buffer.getDouble());
+			boolean running = buffer.get() != 0;
+			long tick = buffer.getLong();
+			int numberOfCars = buffer.getInt();
+			if (numberOfCars < 1 || fileSize != HEADER_SIZE + (long) numberOfCars * RECORD_SIZE) {
+				throw new IOException("The checkpoint " + path + " is truncated or corrupt.");
+			}
+
+			Random random = new Random();
+			Car playerCar = getCar(buffer, random, null);
+			List<Car> cars = new ArrayList<>(numberOfCars - 1);
+			Dimension2D lastCarSize = playerCar.getSize();
+			for (int i = 1; i < numberOfCars; i++) {
+				Car car = getCar(buffer, random, lastCarSize);
+				lastCarSize = car.getSize();
+				cars.add(car);
+			}
+			GameBoard gameBoard = new GameBoard(size, random, playerCar, cars, tick);
+			gameBoard.setRunning(running);
+			return gameBoard;
+		}
+	}
+
+	private static void putCar(ByteBuffer buffer, Car car) {
+		buffer.put(typeOf(car));
+		buffer.put((byte) (car.isCrunched() ? 1 : 0));
+		buffer.putDouble(car.getX());
+		buffer.putDouble(car.getY());
+		buffer.putDouble(car.getSize().getWidth());
+		buffer.putDouble(car.getSize().getHeight());
+		buffer.putShort((short) car.getDirection());
+		buffer.putInt(car.getSpeed());
+		buffer.putInt(car.getMinSpeed());
+		buffer.putInt(car.getMaxSpeed());
+	}
+
+	/**
+	 * Reads the next car record into a car that draws no random values on
+	 * construction.
+	 *
+	 * @param random     the source of later random values of the car
+	 * @param sharedSize a size to reuse if the car has the same size, so that a
+	 *                   fleet of equally sized cars shares one instance
+	 */
+	private static Car getCar(ByteBuffer buffer, Random random, Dimension2D sharedSize) throws IOException {
+		byte type = buffer.get();
+		Car car;
+		if (type == SLOW_CAR) {
+			car = new SlowCar(random);
+		} else if (type == FAST_CAR) {
+			car = new FastCar(random);
+		} else {
+			throw new IOException("Unknown car type " + type + ".");
+		}
+		boolean crunched = buffer.get() != 0;
+		double x = buffer.getDouble();
+		double y = buffer.getDouble();
+		double width = buffer.getDouble();
+		double height = buffer.getDouble();
+		if (sharedSize != null && sharedSize.getWidth() == width && sharedSize.getHeight() == height) {
+			car.setSize(sharedSize);
+		} else {
+			car.setSize(new Dimension2D(width, height));
+		}
+		car.setPosition(x, y);
+		car.setDirection(buffer.getShort());
+		if (crunched) {
+			car.crunch();
+		}
+		car.setSpeed(buffer.getInt());
+		car.setMinSpeed(buffer.getInt());
+		car.setMaxSpeed(buffer.getInt());
+		return car;
+	}
+
+	private static byte typeOf(Car car) {
+		if (car instanceof SlowCar) {
+			return SLOW_CAR;
+		}
+		if (car instanceof FastCar) {
+			return FAST_CAR;
+		}
+		throw new IllegalArgumentException("Cannot save cars of type " + car.getClass().getName() + ".");
+	}
+
+	private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
@@ -0,0 +1,76 @@
+package de.tum.in.ase.eist;
+
+/**
+ * Precomputed sine and cosine values for all integer headings. The direction of
+ * a car is always a whole degree between 0 (inclusive) and 360 (exclusive), so
+ * driving only needs a table lookup instead of trigonometry.
+ */
+public final class Heading {
+
+	/**
+	 * The number of distinct headings.
+	 */
+	public static final int NUMBER_OF_HEADINGS = Car.MAX_ANGLE;
+
+	private static final double[] SIN = new double[NUMBER_OF_HEADINGS];
+	private static final double[] COS = new double[NUMBER_OF_HEADINGS];
+
+	static {
+		for (int degree = 0; degree < NUMBER_OF_HEADINGS; degree++) {
+			// exactly the values Car.drive used to compute on every tick
+			SIN[degree] = Math.sin(Math.toRadians(degree));
+			COS[degree] = Math.cos(Math.toRadians(degree));
+		}
+	}
+
+	private static final int ANGLE_90_DEGREES = 90;
+	private static final int ANGLE_270_DEGREES = 270;
+
+	private Heading() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	/**
+	 * Returns the sine of the heading, i.e. the share of the speed that moves a
+	 * car along the x axis.
+	 *
+	 * @param direction the heading in degrees, between 0 (inclusive) and 360
+	 *                  (exclusive)
+	 * @return the sine of the heading
+	 */
+	public static double sin(int direction) {
+		return SIN[direction];
+	}
+
+	/**
+	 * Returns the cosine of the heading, i.e. the share of the speed that moves a
+	 * car along the y axis.
+	 *
+	 * @param direction the heading in degrees, between 0 (inclusive) and 360
+	 *                  (exclusive)
+	 * @return the cosine of the heading
+	 */
+	public static double cos(int direction) {
+		return COS[direction];
+	}
+
+	/**
+	 * Calculates the whole-degree heading pointing along the given delta. This
+	 * still uses {@link Math#atan2(double, double)}, but only runs on user input,
+	 * not on every tick.
+	 *
+	 * @param deltaX the delta along the x axis
+	 * @param deltaY the delta along the y axis
+	 * @return the heading in degrees, between 0 (inclusive) and 360 (exclusive)
+	 */
+	public static int towards(double deltaX, double deltaY) {
+		int degree = (int) Math.toDegrees(Math.atan2(deltaY, Math.abs(deltaX)));
+		if (deltaX > 0) {
+			degree = ANGLE_90_DEGREES - degree;
+		} else {
+			degree = ANGLE_270_DEGREES + degree;
+		}
+		// straight down from the car would otherwise be 360
+		return degree % NUMBER_OF_HEADINGS;
+	}
+}
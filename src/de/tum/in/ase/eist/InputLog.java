@@ -0,0 +1,141 @@
+package de.tum.in.ase.eist;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A tick-stamped log of the player's steering inputs, together with the seed and
+ * size of the game board they were made on. Replaying the log on a board
+ * created with the same seed reproduces the original game exactly.
+ * <p>
+ * The log is stored as text: a line {@code seed <seed>}, a line
+ * {@code size <width> <height>} and one line {@code <tick> <direction>} per
+ * input.
+ */
+public class InputLog {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private final long seed;
+	private final Dimension2D boardSize;
+
+	private long[] ticks = new long[DEFAULT_CAPACITY];
+	private int[] directions = new int[DEFAULT_CAPACITY];
+	private int count;
+
+	/**
+	 * Creates an empty log for a game board.
+	 *
+	 * @param seed      the seed the game board was created with
+	 * @param boardSize the size of the game board
+	 */
+	public InputLog(long seed, Dimension2D boardSize) {
+		this.seed = seed;
+		this.boardSize = boardSize;
+	}
+
+	/**
+	 * Appends a steering input.
+	 *
+	 * @param tick      the tick at the start of which the input takes effect
+	 * @param direction the new direction of the player car
+	 * @throws IllegalArgumentException if the tick is before the last recorded one
+	 */
+	public void record(long tick, int direction) {
+		if (this.count > 0 && tick < this.ticks[this.count - 1]) {
+			throw new IllegalArgumentException("Inputs must be recorded in tick order.");
+		}
+		if (this.count == this.ticks.length) {
+			this.ticks = Arrays.copyOf(this.ticks, this.count * 2);
+			this.directions = Arrays.copyOf(this.directions, this.count * 2);
+		}
+		this.ticks[this.count] = tick;
+		this.directions[this.count] = direction;
+		this.count++;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public Dimension2D getBoardSize() {
+		return this.boardSize;
+	}
+
+	public int size() {
+		return this.count;
+	}
+
+	public long getTick(int index) {
+		return this.ticks[index];
+	}
+
+	public int getDirection(int index) {
+		return this.directions[index];
+	}
+
+	/**
+	 * Writes this log to a text file.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path file) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write("seed " + this.seed);
+			writer.newLine();
+			writer.write(String.format(Locale.ROOT, "size %s %s", this.boardSize.getWidth(),
+					this.boardSize.getHeight()));
+			writer.newLine();
+			for (int i = 0; i < this.count; i++) {
+				writer.write(this.ticks[i] + " " + this.directions[i]);
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Reads a log written by {@link #save(Path)}.
+	 *
+	 * @param file the file to read
+	 * @return the log
+	 * @throws IOException if the file cannot be read or is malformed
+	 */
+	public static InputLog load(Path file) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String[] seedLine = readHeader(reader, "seed", 2);
+			String[] sizeLine = readHeader(reader, "size", 3);
+			InputLog log = new InputLog(Long.parseLong(seedLine[1]),
+					new Dimension2D(Double.parseDouble(sizeLine[1]), Double.parseDouble(sizeLine[2])));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				String[] fields = line.trim().split(" ");
+				if (fields.length != 2) {
+					throw new IOException("Malformed input line: " + line);
+				}
+				log.record(Long.parseLong(fields[0]), Integer.parseInt(fields[1]));
+			}
+			return log;
+		} catch (NumberFormatException e) {
+			throw new IOException("Malformed input log " + file, e);
+		}
+	}
+
+	private static String[] readHeader(BufferedReader reader, String name, int fieldCount) throws IOException {
+		String line = reader.readLine();
+		String[] fields = line == null ? new String[0] : line.trim().split(" ");
+		if (fields.length != fieldCount || !fields[0].equals(name)) {
+			throw new IOException("Expected the " + name + " header, but found: " + line);
+		}
+		return fields;
+	}
+}
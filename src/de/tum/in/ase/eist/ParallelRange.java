@@ -0,0 +1,53 @@
+package de.tum.in.ase.eist;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task that splits an index range into chunks and runs a body on each
+ * chunk. Every index is handled by exactly one chunk, so bodies that only write
+ * to the slots of their own indices need no synchronization.
+ */
+class ParallelRange extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Ranges up to this size are not split any further.
+	 */
+	static final int CHUNK_SIZE = 4096;
+
+	/**
+	 * The work done for one chunk of the range.
+	 */
+	@FunctionalInterface
+	interface Body {
+
+		/**
+		 * Runs the work for all indices from (inclusive) to (exclusive).
+		 *
+		 * @param from the first index
+		 * @param to   the index after the last index
+		 */
+		void run(int from, int to);
+	}
+
+	private final transient Body body;
+	private final int from;
+	private final int to;
+
+	ParallelRange(Body body, int from, int to) {
+		this.body = body;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	protected void compute() {
+		if (this.to - this.from <= CHUNK_SIZE) {
+			this.body.run(this.from, this.to);
+			return;
+		}
+		int middle = (this.from + this.to) >>> 1;
+		invokeAll(new ParallelRange(this.body, this.from, middle), new ParallelRange(this.body, middle, this.to));
+	}
+}
@@ -0,0 +1,193 @@
+package de.tum.in.ase.eist;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds a game board from a scenario file that describes the board and its
+ * fleet, so that large fleets for stress tests can be described outside the
+ * code.
+ * <p>
+ * A scenario is a text file with one statement per line, empty lines and lines
+ * starting with {@code #} are ignored:
+ * <ul>
+ * <li>{@code board <width> <height>} sets the size of the board and must be
+ * the first statement,</li>
+ * <li>{@code seed <seed>} makes the board reproducible and must come before the
+ * first fleet,</li>
+ * <li>{@code fleet <slow|fast> <count> [size <width> <height>] [speed <min> <max>] [region <x> <y> <width> <height>]}
+ * adds {@code count} cars of the given type with the given size (default
+ * 50 x 25), speed range (default: the range of the type) and spawn region
+ * (default: the whole board).</li>
+ * </ul>
+ * The file is streamed and every car is created directly on the board, so even
+ * millions of cars only need memory for the cars themselves. The player car is
+ * created as usual.
+ */
+public final class ScenarioLoader {
+
+	private static final String COMMENT = "#";
+
+	private ScenarioLoader() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	/**
+	 * Builds the game board described by a scenario file.
+	 *
+	 * @param file the scenario file
+	 * @return the game board
+	 * @throws IOException if the file cannot be read or is malformed
+	 */
+	public static GameBoard load(Path file) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return load(reader, file.toString());
+		}
+	}
+
+	/**
+	 * Builds the game board described by a scenario file with the given seed
+	 * instead of the seed of the file, e.g. to run a scenario with many seeds.
+	 *
+	 * @param file the scenario file
+	 * @param seed the seed of the random source
+	 * @return the game board
+	 * @throws IOException if the file cannot be read or is malformed
+	 */
+	public static GameBoard load(Path file, long seed) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return load(reader, file.toString(), new Random(seed));
+		}
+	}
+
+	/**
+	 * Builds the game board described by a scenario.
+	 *
+	 * @param reader the scenario, not closed by this method
+	 * @param name   the name of the scenario used in error messages
+	 * @return the game board
+	 * @throws IOException if the scenario cannot be read or is malformed
+	 */
+	public static GameBoard load(BufferedReader reader, String name) throws IOException {
+		return load(reader, name, null);
+	}
+
+	/**
+	 * @param seededRandom the random source to use regardless of the seed
+	 *                     statement, null to use the seed statement
+	 */
+	private static GameBoard load(BufferedReader reader, String name, Random seededRandom) throws IOException {
+		Dimension2D boardSize = null;
+		Random random = seededRandom;
+		GameBoard gameBoard = null;
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			String statement = line.trim();
+			if (statement.isEmpty() || statement.startsWith(COMMENT)) {
+				continue;
+			}
+			String[] fields = statement.split("\\s+");
+			try {
+				if (boardSize == null) {
+					expect(fields[0].equals("board") && fields.length == 3, "the board statement");
+					boardSize = new Dimension2D(Double.parseDouble(fields[1]), Double.parseDouble(fields[2]));
+				} else if (fields[0].equals("seed")) {
+					expect(gameBoard == null && fields.length == 2, "the seed before the first fleet");
+					long seed = Long.parseLong(fields[1]);
+					if (seededRandom == null) {
+						random = new Random(seed);
+					}
+				} else if (fields[0].equals("fleet")) {
+					if (gameBoard == null) {
+						gameBoard = new GameBoard(boardSize, random, false);
+					}
+					addFleet(gameBoard, fields, random);
+				} else {
+					expect(false, "a seed or fleet statement");
+				}
+			} catch (IllegalArgumentException e) {
+				// also covers NumberFormatException
+				throw new IOException(name + ":" + lineNumber + ": " + e.getMessage(), e);
+			}
+		}
+		if (boardSize == null) {
+			throw new IOException(name + " does not contain a board statement.");
+		}
+		return gameBoard != null ? gameBoard : new GameBoard(boardSize, random, false);
+	}
+
+	private static void addFleet(GameBoard gameBoard, String[] fields, Random random) {
+		expect(fields.length >= 3, "the car type and count of the fleet");
+		boolean fast = fields[1].equals("fast");
+		expect(fast || fields[1].equals("slow"), "slow or fast as car type");
+		int count = Integer.parseInt(fields[2]);
+		expect(count >= 0, "a count of at least 0");
+
+		Dimension2D boardSize = gameBoard.getSize();
+		Dimension2D carSize = null;
+		int minSpeed = -1;
+		int maxSpeed = -1;
+		double regionX = 0;
+		double regionY = 0;
+		double regionWidth = boardSize.getWidth();
+		double regionHeight = boardSize.getHeight();
+		int field = 3;
+		while (field < fields.length) {
+			String option = fields[field];
+			if (option.equals("size") && field + 2 < fields.length) {
+				carSize = new Dimension2D(Double.parseDouble(fields[field + 1]), Double.parseDouble(fields[field + 2]));
+				field += 3;
+			} else if (option.equals("speed") && field + 2 < fields.length) {
+				minSpeed = Integer.parseInt(fields[field + 1]);
+				maxSpeed = Integer.parseInt(fields[field + 2]);
+				expect(0 <= minSpeed && minSpeed <= maxSpeed, "0 <= min speed <= max speed");
+				field += 3;
+			} else if (option.equals("region") && field + 4 < fields.length) {
+				regionX = Double.parseDouble(fields[field + 1]);
+				regionY = Double.parseDouble(fields[field + 2]);
+				regionWidth = Double.parseDouble(fields[field + 3]);
+				regionHeight = Double.parseDouble(fields[field + 4]);
+				expect(regionX >= 0 && regionY >= 0 && regionX + regionWidth <= boardSize.getWidth()
+						&& regionY + regionHeight <= boardSize.getHeight(), "a region inside the board");
+				field += 5;
+			} else {
+				expect(false, "size <width> <height>, speed <min> <max> or region <x> <y> <width> <height>");
+			}
+		}
+
+		Dimension2D size = carSize != null ? carSize
+				: new Dimension2D(Car.DEFAULT_CAR_WIDTH, Car.DEFAULT_CAR_HEIGHT);
+		expect(size.getWidth() <= regionWidth && size.getHeight() <= regionHeight,
+				"a region at least as large as the cars");
+
+		List<Car> cars = gameBoard.getCars();
+		for (int i = 0; i < count; i++) {
+			Car car = fast ? new FastCar(boardSize, random) : new SlowCar(boardSize, random);
+			if (carSize != null) {
+				car.setSize(carSize);
+			}
+			if (minSpeed >= 0) {
+				car.setMinSpeed(minSpeed);
+				car.setMaxSpeed(maxSpeed);
+				car.setRandomSpeed();
+			}
+			double x = Car.calculateRandomDouble(car.getRandom(), regionX, regionX + regionWidth - size.getWidth());
+			double y = Car.calculateRandomDouble(car.getRandom(), regionY, regionY + regionHeight - size.getHeight());
+			car.setPosition(x, y);
+			cars.add(car);
+		}
+	}
+
+	private static void expect(boolean condition, String expected) {
+		if (!condition) {
+			throw new IllegalArgumentException("Expected " + expected + ".");
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package de.tum.in.ase.eist;
 
+import java.util.Random;
+
 public class SlowCar extends Car {
 
 	private static final String SLOW_CAR_IMAGE_FILE = "SlowCar.gif";
@@ -8,10 +10,35 @@ public class SlowCar extends Car {
 	private static final int MAX_SPEED_SLOW_CAR = 5;
 
 	public SlowCar(Dimension2D gameBoardSize) {
-		super(gameBoardSize);
+		this(gameBoardSize, null);
+	}
+
+	/**
+	 * Creates a car that draws its random position, direction and speed from the
+	 * given source.
+	 *
+	 * @param gameBoardSize dimensions of the game board
+	 * @param random        the source of random values, null to use
+	 *                      {@link java.util.concurrent.ThreadLocalRandom}
+	 */
+	public SlowCar(Dimension2D gameBoardSize, Random random) {
+		super(gameBoardSize, random);
 		setMinSpeed(MIN_SPEED_SLOW_CAR);
 		setMaxSpeed(MAX_SPEED_SLOW_CAR);
 		setRandomSpeed();
 		setIconLocation(SLOW_CAR_IMAGE_FILE);
 	}
+
+	/**
+	 * Creates a car without drawing any random values, for
+	 * {@link GameBoardCheckpoint} to restore its state.
+	 *
+	 * @param random the source of later random values
+	 */
+	SlowCar(Random random) {
+		super(random);
+		setMinSpeed(MIN_SPEED_SLOW_CAR);
+		setMaxSpeed(MAX_SPEED_SLOW_CAR);
+		setIconLocation(SLOW_CAR_IMAGE_FILE);
+	}
 }
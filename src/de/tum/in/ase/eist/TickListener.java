@@ -0,0 +1,16 @@
+package de.tum.in.ase.eist;
+
+/**
+ * Gets notified after every {@link GameBoard#update()}.
+ */
+@FunctionalInterface
+public interface TickListener {
+
+	/**
+	 * Called on the simulation thread after a tick has completed.
+	 *
+	 * @param gameBoard the game board, {@link GameBoard#getTick()} already counts
+	 *                  the completed tick
+	 */
+	void tickCompleted(GameBoard gameBoard);
+}
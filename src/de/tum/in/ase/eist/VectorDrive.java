@@ -0,0 +1,87 @@
+package de.tum.in.ase.eist;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Drives the cars of a {@link CarStore} several at a time with the incubating
+ * Vector API. The new positions of all lanes are computed without branches, in
+ * the same order of floating-point operations as {@link Car#drive(Dimension2D)},
+ * so the results are bit for bit the same as the scalar code.
+ * <p>
+ * A bounce off a border also changes the direction, which is an int. Converting
+ * doubles or masks to a species of another shape is not compiled to vector
+ * instructions in this JDK and would allocate, so the directions are never
+ * written from vectors: if any car of a vector bounces, the whole vector is
+ * left to the scalar code instead. Cars only bounce every few hundred ticks, so
+ * almost all vectors are driven at once.
+ * <p>
+ * This class must only be loaded if the module {@code jdk.incubator.vector} is
+ * present, see {@link CarStore#isVectorDriveSupported()}.
+ */
+final class VectorDrive {
+
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * Directions and speeds are loaded as ints, with as many lanes as there are
+	 * doubles in a vector of {@link #DOUBLES}.
+	 */
+	private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class,
+			VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+	private static final double[] SIN = new double[Heading.NUMBER_OF_HEADINGS];
+	private static final double[] COS = new double[Heading.NUMBER_OF_HEADINGS];
+
+	static {
+		for (int degree = 0; degree < Heading.NUMBER_OF_HEADINGS; degree++) {
+			SIN[degree] = Heading.sin(degree);
+			COS[degree] = Heading.cos(degree);
+		}
+	}
+
+	private VectorDrive() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	/**
+	 * Drives the cars in the slots from {@code from} as long as whole vectors are
+	 * left. Vectors with a bouncing car and the remaining slots are left to the
+	 * scalar code.
+	 *
+	 * @param store the store that owns the arrays
+	 * @return the first slot that was not looked at
+	 */
+	static int drive(CarStore store, double[] x, double[] y, double[] width, double[] height, int[] direction,
+			int[] speed, boolean[] crunched, int from, int to, double maxX, double maxY) {
+		int end = from + DOUBLES.loopBound(to - from);
+		int slot = from;
+		for (; slot < end; slot += DOUBLES.length()) {
+			VectorMask<Double> moving = VectorMask.fromArray(DOUBLES, crunched, slot).not();
+			DoubleVector carSpeed = (DoubleVector) IntVector.fromArray(INTS, speed, slot)
+					.convertShape(VectorOperators.I2D, DOUBLES, 0);
+			DoubleVector oldX = DoubleVector.fromArray(DOUBLES, x, slot);
+			DoubleVector oldY = DoubleVector.fromArray(DOUBLES, y, slot);
+			DoubleVector newX = oldX.add(carSpeed.mul(DoubleVector.fromArray(DOUBLES, SIN, 0, direction, slot)));
+			DoubleVector newY = oldY.add(carSpeed.mul(DoubleVector.fromArray(DOUBLES, COS, 0, direction, slot)));
+
+			VectorMask<Double> bounced = newX.compare(VectorOperators.LT, 0)
+					.or(newX.add(DoubleVector.fromArray(DOUBLES, width, slot)).compare(VectorOperators.GT, maxX))
+					.or(newY.compare(VectorOperators.LT, 0))
+					.or(newY.add(DoubleVector.fromArray(DOUBLES, height, slot)).compare(VectorOperators.GT, maxY));
+			if (bounced.and(moving).anyTrue()) {
+				for (int i = slot; i < slot + DOUBLES.length(); i++) {
+					store.drive(i, maxX, maxY);
+				}
+				continue;
+			}
+			oldX.blend(newX, moving).intoArray(x, slot);
+			oldY.blend(newY, moving).intoArray(y, slot);
+		}
+		return slot;
+	}
+}
@@ -0,0 +1,131 @@
+package de.tum.in.ase.eist.assets;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.tum.in.ase.eist.audio.AudioPlayer;
+import javafx.scene.image.Image;
+
+/**
+ * Loads the images and sounds of the game in the background and keeps them for
+ * the lifetime of the application, so that resetting the game board does not
+ * load anything again.
+ * <p>
+ * Loading starts with the {@link AudioPlayer} as soon as the manager is
+ * created. Images are loaded in parallel once they are requested with
+ * {@link #preloadImages(Collection)}. Must be created after the JavaFX toolkit
+ * has started.
+ */
+public class AssetManager {
+
+	private static final int LOADER_THREADS = 2;
+
+	private final ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+		Thread thread = new Thread(runnable, "asset-loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final CompletableFuture<AudioPlayer> audioPlayer;
+	private final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of requested assets that are still loading, so that
+	 * {@link #isReady()} can be checked every frame without allocating.
+	 */
+	private final AtomicInteger loading = new AtomicInteger();
+	private volatile boolean failed;
+
+	/**
+	 * Creates the manager and starts loading the background music and crash sound.
+	 */
+	public AssetManager() {
+		this.audioPlayer = track(CompletableFuture.supplyAsync(AudioPlayer::new, this.loader));
+	}
+
+	/**
+	 * Counts the asset as loading until the future completes.
+	 */
+	private <T> CompletableFuture<T> track(CompletableFuture<T> asset) {
+		this.loading.incrementAndGet();
+		asset.whenComplete((loaded, error) -> {
+			if (error != null) {
+				this.failed = true;
+			}
+			this.loading.decrementAndGet();
+		});
+		return asset;
+	}
+
+	/**
+	 * Starts loading all given images that are not loaded or loading yet.
+	 *
+	 * @param imageLocations the resource names of the images
+	 */
+	public void preloadImages(Collection<String> imageLocations) {
+		for (String imageLocation : imageLocations) {
+			this.images.computeIfAbsent(imageLocation,
+					location -> track(CompletableFuture.supplyAsync(() -> loadImage(location), this.loader)));
+		}
+	}
+
+	/**
+	 * Returns a future that completes once the sounds and all images requested so
+	 * far are loaded. It completes exceptionally if one of them cannot be loaded.
+	 *
+	 * @return the future
+	 */
+	public CompletableFuture<Void> whenReady() {
+		List<CompletableFuture<?>> assets = new ArrayList<>(this.images.values());
+		assets.add(this.audioPlayer);
+		return CompletableFuture.allOf(assets.toArray(new CompletableFuture<?>[0]));
+	}
+
+	/**
+	 * Checks if the sounds and all images requested so far are loaded.
+	 *
+	 * @return true if everything is loaded successfully
+	 */
+	public boolean isReady() {
+		return this.loading.get() == 0 && !this.failed;
+	}
+
+	/**
+	 * Returns an image, waiting for it if it is still loading. An image that was
+	 * never requested is loaded on the calling thread.
+	 *
+	 * @param imageLocation the resource name of the image
+	 * @return the image
+	 */
+	public Image getImage(String imageLocation) {
+		return this.images
+				.computeIfAbsent(imageLocation, location -> CompletableFuture.completedFuture(loadImage(location)))
+				.join();
+	}
+
+	/**
+	 * Returns the audio player, waiting for it if it is still loading.
+	 *
+	 * @return the audio player
+	 */
+	public AudioPlayer getAudioPlayer() {
+		return this.audioPlayer.join();
+	}
+
+	private static Image loadImage(String imageLocation) {
+		URL imageUrl = AssetManager.class.getClassLoader().getResource(imageLocation);
+		if (imageUrl == null) {
+			throw new IllegalArgumentException(
+					"Please ensure that your resources folder contains the appropriate files for this exercise.");
+		}
+		return new Image(imageUrl.toExternalForm());
+	}
+}
@@ -2,6 +2,8 @@
 
 import java.net.URL;
 
+import de.tum.in.ase.eist.jfr.CrashSoundEvent;
+
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
@@ -54,7 +56,10 @@ public boolean isPlayingBackgroundMusic() {
 
 	@Override
 	public void playCrashSound() {
+		CrashSoundEvent event = new CrashSoundEvent();
+		event.begin();
 		crashPlayer.play(CRASH_SOUND_VOLUME);
+		event.commit();
 	}
 
 	private Media loadAudioFile(String fileName) {
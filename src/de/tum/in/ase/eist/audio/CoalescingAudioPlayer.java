@@ -0,0 +1,162 @@
+package de.tum.in.ase.eist.audio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An {@link AudioPlayerInterface} that plays crash sounds of another player on
+ * its own thread, so that a crash never delays a tick.
+ * <p>
+ * {@link #playCrashSound()} only counts the crash and wakes the dispatcher
+ * thread, it neither blocks nor allocates. The dispatcher merges all crashes
+ * into one sound if they arrive within the merge window after the last sound
+ * played, e.g. while two cars keep overlapping. It also limits the number of
+ * sounds that play at the same time; crashes arriving while all voices are busy
+ * are dropped.
+ * <p>
+ * The background music methods are passed on directly.
+ */
+public class CoalescingAudioPlayer implements AudioPlayerInterface {
+
+	private static final long DEFAULT_MERGE_WINDOW_MILLIS = 150;
+	private static final int DEFAULT_MAX_VOICES = 4;
+	private static final long DEFAULT_VOICE_DURATION_MILLIS = 600;
+
+	private final AudioPlayerInterface delegate;
+	private final long mergeWindowNanos;
+	private final long voiceDurationNanos;
+
+	/**
+	 * Start times of the last sounds, used as a ring. A voice is busy until its
+	 * sound has played for the voice duration.
+	 */
+	private final long[] voiceStarts;
+	private int nextVoice;
+	private int usedVoices;
+	private long lastSoundStart;
+
+	private final AtomicInteger pendingCrashes = new AtomicInteger();
+	private final Thread dispatcher;
+	private volatile boolean shutDown;
+
+	private volatile long playedSounds;
+	private volatile long skippedCrashes;
+
+	/**
+	 * Creates a player with a merge window of {@value #DEFAULT_MERGE_WINDOW_MILLIS}
+	 * ms and at most {@value #DEFAULT_MAX_VOICES} crash sounds of
+	 * {@value #DEFAULT_VOICE_DURATION_MILLIS} ms at the same time.
+	 *
+	 * @param delegate the player that actually plays the sounds
+	 */
+	public CoalescingAudioPlayer(AudioPlayerInterface delegate) {
+		this(delegate, DEFAULT_MERGE_WINDOW_MILLIS, DEFAULT_MAX_VOICES, DEFAULT_VOICE_DURATION_MILLIS,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Creates a player.
+	 *
+	 * @param delegate      the player that actually plays the sounds
+	 * @param mergeWindow   crashes within this time after a sound are merged into
+	 *                      it
+	 * @param maxVoices     the maximum number of crash sounds playing at the same
+	 *                      time
+	 * @param voiceDuration how long one crash sound plays
+	 * @param unit          the unit of the merge window and voice duration
+	 */
+	public CoalescingAudioPlayer(AudioPlayerInterface delegate, long mergeWindow, int maxVoices, long voiceDuration,
+			TimeUnit unit) {
+		if (maxVoices < 1) {
+			throw new IllegalArgumentException("At least one voice is needed.");
+		}
+		this.delegate = delegate;
+		this.mergeWindowNanos = unit.toNanos(mergeWindow);
+		this.voiceDurationNanos = unit.toNanos(voiceDuration);
+		this.voiceStarts = new long[maxVoices];
+		this.dispatcher = new Thread(this::dispatchCrashSounds, "crash-sound-dispatcher");
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
+
+	@Override
+	public void playBackgroundMusic() {
+		this.delegate.playBackgroundMusic();
+	}
+
+	@Override
+	public void stopBackgroundMusic() {
+		this.delegate.stopBackgroundMusic();
+	}
+
+	@Override
+	public boolean isPlayingBackgroundMusic() {
+		return this.delegate.isPlayingBackgroundMusic();
+	}
+
+	@Override
+	public void playCrashSound() {
+		this.pendingCrashes.incrementAndGet();
+		LockSupport.unpark(this.dispatcher);
+	}
+
+	/**
+	 * Stops the dispatcher thread. Crashes reported afterwards are not played.
+	 */
+	public void shutDown() {
+		this.shutDown = true;
+		LockSupport.unpark(this.dispatcher);
+	}
+
+	/**
+	 * @return the number of crash sounds played so far
+	 */
+	public long getPlayedSounds() {
+		return this.playedSounds;
+	}
+
+	/**
+	 * @return the number of crashes that were merged into another sound or
+	 *         dropped because all voices were busy
+	 */
+	public long getSkippedCrashes() {
+		return this.skippedCrashes;
+	}
+
+	private void dispatchCrashSounds() {
+		while (!this.shutDown) {
+			int crashes = this.pendingCrashes.getAndSet(0);
+			if (crashes == 0) {
+				LockSupport.park(this);
+				continue;
+			}
+			long now = System.nanoTime();
+			int skipped = crashes - 1;
+			if (isMerged(now) || !hasFreeVoice(now)) {
+				skipped = crashes;
+			} else {
+				play(now);
+			}
+			this.skippedCrashes += skipped;
+		}
+	}
+
+	private boolean isMerged(long now) {
+		return this.usedVoices > 0 && now - this.lastSoundStart < this.mergeWindowNanos;
+	}
+
+	private boolean hasFreeVoice(long now) {
+		return this.usedVoices < this.voiceStarts.length
+				|| now - this.voiceStarts[this.nextVoice] >= this.voiceDurationNanos;
+	}
+
+	private void play(long now) {
+		this.delegate.playCrashSound();
+		this.voiceStarts[this.nextVoice] = now;
+		this.nextVoice = (this.nextVoice + 1) % this.voiceStarts.length;
+		this.usedVoices = Math.min(this.usedVoices + 1, this.voiceStarts.length);
+		this.lastSoundStart = now;
+		this.playedSounds++;
+	}
+}
@@ -0,0 +1,31 @@
+package de.tum.in.ase.eist.audio;
+
+/**
+ * An {@link AudioPlayerInterface} that does not play anything. It is used to
+ * run a game board without JavaFX, e.g. on a server without a display or sound
+ * device.
+ */
+public class SilentAudioPlayer implements AudioPlayerInterface {
+
+	private boolean playingBackgroundMusic;
+
+	@Override
+	public void playBackgroundMusic() {
+		this.playingBackgroundMusic = true;
+	}
+
+	@Override
+	public void stopBackgroundMusic() {
+		this.playingBackgroundMusic = false;
+	}
+
+	@Override
+	public boolean isPlayingBackgroundMusic() {
+		return this.playingBackgroundMusic;
+	}
+
+	@Override
+	public void playCrashSound() {
+		// intentionally silent
+	}
+}
@@ -0,0 +1,19 @@
+package de.tum.in.ase.eist.broadphase;
+
+/**
+ * Reference broad-phase that compares every box with every other box. It takes
+ * quadratic time and is only meant as a baseline for the other strategies.
+ */
+public class AllPairsBroadPhase implements BroadPhase {
+
+	@Override
+	public void findPairs(BoundingBoxes boxes, PairConsumer pairs) {
+		for (int first = 0; first < boxes.size(); first++) {
+			for (int second = first + 1; second < boxes.size(); second++) {
+				if (boxes.overlaps(first, second)) {
+					pairs.accept(first, second);
+				}
+			}
+		}
+	}
+}
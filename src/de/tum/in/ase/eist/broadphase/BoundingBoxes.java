@@ -0,0 +1,82 @@
+package de.tum.in.ase.eist.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * A reusable list of axis-aligned bounding boxes, stored in primitive arrays.
+ * The arrays only grow, so filling the boxes every tick does not allocate once
+ * the largest fleet size has been reached.
+ */
+public class BoundingBoxes {
+
+	private double[] minX = new double[0];
+	private double[] minY = new double[0];
+	private double[] maxX = new double[0];
+	private double[] maxY = new double[0];
+	private int count;
+
+	/**
+	 * Removes all boxes and makes room for the given number of boxes.
+	 *
+	 * @param capacity the number of boxes that will be set
+	 */
+	public void reset(int capacity) {
+		if (this.minX.length < capacity) {
+			this.minX = Arrays.copyOf(this.minX, capacity);
+			this.minY = Arrays.copyOf(this.minY, capacity);
+			this.maxX = Arrays.copyOf(this.maxX, capacity);
+			this.maxY = Arrays.copyOf(this.maxY, capacity);
+		}
+		this.count = capacity;
+	}
+
+	/**
+	 * Sets the box with the given index.
+	 *
+	 * @param index  the index of the box, smaller than the capacity passed to
+	 *               {@link #reset(int)}
+	 * @param x      the x coordinate of the upper left corner
+	 * @param y      the y coordinate of the upper left corner
+	 * @param width  the width of the box
+	 * @param height the height of the box
+	 */
+	public void set(int index, double x, double y, double width, double height) {
+		this.minX[index] = x;
+		this.minY[index] = y;
+		this.maxX[index] = x + width;
+		this.maxY[index] = y + height;
+	}
+
+	public int size() {
+		return this.count;
+	}
+
+	public double getMinX(int index) {
+		return this.minX[index];
+	}
+
+	public double getMinY(int index) {
+		return this.minY[index];
+	}
+
+	public double getMaxX(int index) {
+		return this.maxX[index];
+	}
+
+	public double getMaxY(int index) {
+		return this.maxY[index];
+	}
+
+	/**
+	 * Checks whether two boxes overlap. Touching boxes count as overlapping, like
+	 * in {@link de.tum.in.ase.eist.Collision#detectCollision()}.
+	 *
+	 * @param first  the index of the first box
+	 * @param second the index of the second box
+	 * @return true if the boxes overlap
+	 */
+	public boolean overlaps(int first, int second) {
+		return this.minX[first] <= this.maxX[second] && this.minX[second] <= this.maxX[first]
+				&& this.minY[first] <= this.maxY[second] && this.minY[second] <= this.maxY[first];
+	}
+}
@@ -0,0 +1,19 @@
+package de.tum.in.ase.eist.broadphase;
+
+/**
+ * A broad-phase collision strategy. It quickly finds all pairs of boxes that may
+ * overlap, so that the exact (narrow-phase) collision check only needs to run
+ * for these candidate pairs instead of for every pair of cars.
+ */
+public interface BroadPhase {
+
+	/**
+	 * Reports every pair of overlapping boxes exactly once, with the smaller box
+	 * index first. Touching boxes count as overlapping. Implementations may report
+	 * additional pairs that do not overlap.
+	 *
+	 * @param boxes the boxes to check
+	 * @param pairs receives the candidate pairs
+	 */
+	void findPairs(BoundingBoxes boxes, PairConsumer pairs);
+}
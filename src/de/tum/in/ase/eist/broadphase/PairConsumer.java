@@ -0,0 +1,16 @@
+package de.tum.in.ase.eist.broadphase;
+
+/**
+ * Receives candidate pairs found by a {@link BroadPhase}.
+ */
+@FunctionalInterface
+public interface PairConsumer {
+
+	/**
+	 * Accepts a candidate pair.
+	 *
+	 * @param first  the index of the first box, always smaller than second
+	 * @param second the index of the second box
+	 */
+	void accept(int first, int second);
+}
@@ -0,0 +1,47 @@
+package de.tum.in.ase.eist.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * A reusable list of candidate pairs, in the order they were reported. Used to
+ * collect the pairs of a {@link BroadPhase} before checking them, e.g. in
+ * parallel.
+ */
+public class PairList implements PairConsumer {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private int[] firsts = new int[DEFAULT_CAPACITY];
+	private int[] seconds = new int[DEFAULT_CAPACITY];
+	private int count;
+
+	@Override
+	public void accept(int first, int second) {
+		if (this.count == this.firsts.length) {
+			this.firsts = Arrays.copyOf(this.firsts, this.count * 2);
+			this.seconds = Arrays.copyOf(this.seconds, this.count * 2);
+		}
+		this.firsts[this.count] = first;
+		this.seconds[this.count] = second;
+		this.count++;
+	}
+
+	/**
+	 * Removes all pairs but keeps the allocated memory.
+	 */
+	public void clear() {
+		this.count = 0;
+	}
+
+	public int size() {
+		return this.count;
+	}
+
+	public int getFirst(int index) {
+		return this.firsts[index];
+	}
+
+	public int getSecond(int index) {
+		return this.seconds[index];
+	}
+}
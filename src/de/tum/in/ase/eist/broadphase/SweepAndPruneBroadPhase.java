@@ -0,0 +1,129 @@
+package de.tum.in.ase.eist.broadphase;
+
+/**
+ * Broad-phase based on sweep and prune. The boxes are kept sorted by their
+ * minimum along one axis, and only boxes whose intervals on that axis overlap
+ * are compared on the other axis.
+ * <p>
+ * The sort order is kept between calls and repaired with insertion sort, which
+ * is close to linear because cars only move a few pixels per tick. It works
+ * best if the cars are spread out along the sweep axis, e.g. when many cars
+ * move along similar headings across it.
+ */
+public class SweepAndPruneBroadPhase implements BroadPhase {
+
+	/**
+	 * The axis along which the boxes are sorted.
+	 */
+	public enum Axis {
+		X, Y
+	}
+
+	private final Axis axis;
+
+	/**
+	 * Box indices sorted by their minimum on the sweep axis.
+	 */
+	private int[] order = new int[0];
+	private int[] mergeBuffer = new int[0];
+	private int count;
+
+	/**
+	 * Creates a sweep and prune broad-phase that sorts along the x axis.
+	 */
+	public SweepAndPruneBroadPhase() {
+		this(Axis.X);
+	}
+
+	public SweepAndPruneBroadPhase(Axis axis) {
+		this.axis = axis;
+	}
+
+	@Override
+	public void findPairs(BoundingBoxes boxes, PairConsumer pairs) {
+		if (boxes.size() != this.count) {
+			rebuildOrder(boxes);
+		} else {
+			insertionSort(boxes);
+		}
+		for (int i = 0; i < this.count; i++) {
+			int first = this.order[i];
+			double firstMax = max(boxes, first);
+			for (int j = i + 1; j < this.count; j++) {
+				int second = this.order[j];
+				if (min(boxes, second) > firstMax) {
+					break;
+				}
+				if (boxes.overlaps(first, second)) {
+					pairs.accept(Math.min(first, second), Math.max(first, second));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Repairs the sort order after the boxes moved a little.
+	 */
+	private void insertionSort(BoundingBoxes boxes) {
+		for (int i = 1; i < this.count; i++) {
+			int box = this.order[i];
+			double key = min(boxes, box);
+			int j = i - 1;
+			while (j >= 0 && min(boxes, this.order[j]) > key) {
+				this.order[j + 1] = this.order[j];
+				j--;
+			}
+			this.order[j + 1] = box;
+		}
+	}
+
+	/**
+	 * Sorts all boxes from scratch with a merge sort, used when the number of
+	 * boxes changed.
+	 */
+	private void rebuildOrder(BoundingBoxes boxes) {
+		this.count = boxes.size();
+		if (this.order.length < this.count) {
+			this.order = new int[this.count];
+			this.mergeBuffer = new int[this.count];
+		}
+		for (int i = 0; i < this.count; i++) {
+			this.order[i] = i;
+		}
+		int[] source = this.order;
+		int[] target = this.mergeBuffer;
+		for (int width = 1; width < this.count; width *= 2) {
+			for (int start = 0; start < this.count; start += 2 * width) {
+				int middle = Math.min(start + width, this.count);
+				int end = Math.min(start + 2 * width, this.count);
+				merge(boxes, source, target, start, middle, end);
+			}
+			int[] swap = source;
+			source = target;
+			target = swap;
+		}
+		if (source != this.order) {
+			System.arraycopy(source, 0, this.order, 0, this.count);
+		}
+	}
+
+	private void merge(BoundingBoxes boxes, int[] source, int[] target, int start, int middle, int end) {
+		int left = start;
+		int right = middle;
+		for (int i = start; i < end; i++) {
+			if (right >= end || left < middle && min(boxes, source[left]) <= min(boxes, source[right])) {
+				target[i] = source[left++];
+			} else {
+				target[i] = source[right++];
+			}
+		}
+	}
+
+	private double min(BoundingBoxes boxes, int box) {
+		return this.axis == Axis.X ? boxes.getMinX(box) : boxes.getMinY(box);
+	}
+
+	private double max(BoundingBoxes boxes, int box) {
+		return this.axis == Axis.X ? boxes.getMaxX(box) : boxes.getMaxY(box);
+	}
+}
@@ -0,0 +1,194 @@
+package de.tum.in.ase.eist.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * Broad-phase based on a uniform spatial hash grid. Every box is entered into
+ * all grid cells it covers, and only boxes sharing a cell are compared. If the
+ * cells are at least as large as the largest box, each box covers at most four
+ * cells, so finding all pairs takes time linear in the number of boxes plus the
+ * number of pairs.
+ * <p>
+ * A pair that shares several cells is only reported by the cell containing the
+ * upper left corner of the intersection of both boxes.
+ */
+public class UniformGridBroadPhase implements BroadPhase {
+
+	private static final int HASH_PRIME_X = 73856093;
+	private static final int HASH_PRIME_Y = 19349663;
+	private static final int MAX_CELLS_PER_BOX = 4;
+
+	/**
+	 * The fixed cell size, 0 if the cell size is derived from the largest box.
+	 */
+	private final double fixedCellSize;
+
+	private double cellSize;
+
+	// entries sorted by bucket, one entry per (box, covered cell)
+	private int[] entryBox = new int[0];
+	private int[] entryCellX = new int[0];
+	private int[] entryCellY = new int[0];
+	private int[] bucketStart = new int[0];
+
+	// scratch arrays used while sorting the entries into their buckets
+	private int[] unsortedBox = new int[0];
+	private int[] unsortedCellX = new int[0];
+	private int[] unsortedCellY = new int[0];
+	private int[] unsortedBucket = new int[0];
+
+	/**
+	 * Creates a grid whose cells are as large as the largest box of each call to
+	 * {@link #findPairs(BoundingBoxes, PairConsumer)}, e.g. the largest
+	 * {@link de.tum.in.ase.eist.Car#getSize()}.
+	 */
+	public UniformGridBroadPhase() {
+		this.fixedCellSize = 0;
+	}
+
+	/**
+	 * Creates a grid with a fixed cell size. The cell size should be at least the
+	 * largest width or height of a car, otherwise a car covers many cells.
+	 *
+	 * @param cellSize the width and height of a cell
+	 * @throws IllegalArgumentException if the cell size is not positive
+	 */
+	public UniformGridBroadPhase(double cellSize) {
+		if (!(cellSize > 0)) {
+			throw new IllegalArgumentException("The cell size must be positive.");
+		}
+		this.fixedCellSize = cellSize;
+	}
+
+	@Override
+	public void findPairs(BoundingBoxes boxes, PairConsumer pairs) {
+		int boxCount = boxes.size();
+		if (boxCount < 2) {
+			return;
+		}
+		this.cellSize = this.fixedCellSize > 0 ? this.fixedCellSize : largestExtent(boxes);
+		int entryCount = collectEntries(boxes);
+		int bucketCount = sortEntriesIntoBuckets(entryCount);
+
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			int end = this.bucketStart[bucket + 1];
+			for (int i = this.bucketStart[bucket]; i < end; i++) {
+				for (int j = i + 1; j < end; j++) {
+					reportIfOwner(boxes, i, j, pairs);
+				}
+			}
+		}
+	}
+
+	private static double largestExtent(BoundingBoxes boxes) {
+		double largest = 0;
+		for (int i = 0; i < boxes.size(); i++) {
+			largest = Math.max(largest, boxes.getMaxX(i) - boxes.getMinX(i));
+			largest = Math.max(largest, boxes.getMaxY(i) - boxes.getMinY(i));
+		}
+		// degenerate boxes still need a usable cell size
+		return largest > 0 ? largest : 1;
+	}
+
+	/**
+	 * Enters every box into the cells it covers.
+	 *
+	 * @return the number of entries
+	 */
+	private int collectEntries(BoundingBoxes boxes) {
+		int entryCount = 0;
+		for (int box = 0; box < boxes.size(); box++) {
+			int minCellX = cell(boxes.getMinX(box));
+			int maxCellX = cell(boxes.getMaxX(box));
+			int minCellY = cell(boxes.getMinY(box));
+			int maxCellY = cell(boxes.getMaxY(box));
+			for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+				for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+					ensureEntryCapacity(entryCount + 1, boxes.size());
+					this.unsortedBox[entryCount] = box;
+					this.unsortedCellX[entryCount] = cellX;
+					this.unsortedCellY[entryCount] = cellY;
+					entryCount++;
+				}
+			}
+		}
+		return entryCount;
+	}
+
+	/**
+	 * Counting sort of all entries by the hash bucket of their cell.
+	 *
+	 * @return the number of buckets
+	 */
+	private int sortEntriesIntoBuckets(int entryCount) {
+		int bucketCount = Integer.highestOneBit(Math.max(entryCount, 1) * 2);
+		int mask = bucketCount - 1;
+		if (this.bucketStart.length < bucketCount + 1) {
+			this.bucketStart = new int[bucketCount + 1];
+		} else {
+			Arrays.fill(this.bucketStart, 0, bucketCount + 1, 0);
+		}
+		for (int i = 0; i < entryCount; i++) {
+			int bucket = (this.unsortedCellX[i] * HASH_PRIME_X ^ this.unsortedCellY[i] * HASH_PRIME_Y) & mask;
+			this.unsortedBucket[i] = bucket;
+			this.bucketStart[bucket + 1]++;
+		}
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			this.bucketStart[bucket + 1] += this.bucketStart[bucket];
+		}
+		// fill from the back so that the bucket starts end up in place
+		for (int i = entryCount - 1; i >= 0; i--) {
+			int bucket = this.unsortedBucket[i];
+			int target = --this.bucketStart[bucket + 1];
+			this.entryBox[target] = this.unsortedBox[i];
+			this.entryCellX[target] = this.unsortedCellX[i];
+			this.entryCellY[target] = this.unsortedCellY[i];
+		}
+		// after filling, bucketStart[b + 1] points to the start of bucket b
+		System.arraycopy(this.bucketStart, 1, this.bucketStart, 0, bucketCount);
+		this.bucketStart[bucketCount] = entryCount;
+		return bucketCount;
+	}
+
+	private void reportIfOwner(BoundingBoxes boxes, int firstEntry, int secondEntry, PairConsumer pairs) {
+		int cellX = this.entryCellX[firstEntry];
+		int cellY = this.entryCellY[firstEntry];
+		if (cellX != this.entryCellX[secondEntry] || cellY != this.entryCellY[secondEntry]) {
+			// different cells that share a hash bucket
+			return;
+		}
+		int first = this.entryBox[firstEntry];
+		int second = this.entryBox[secondEntry];
+		if (!boxes.overlaps(first, second)) {
+			return;
+		}
+		double ownerX = Math.max(boxes.getMinX(first), boxes.getMinX(second));
+		double ownerY = Math.max(boxes.getMinY(first), boxes.getMinY(second));
+		if (cell(ownerX) != cellX || cell(ownerY) != cellY) {
+			return;
+		}
+		if (first < second) {
+			pairs.accept(first, second);
+		} else {
+			pairs.accept(second, first);
+		}
+	}
+
+	private int cell(double coordinate) {
+		return (int) Math.floor(coordinate / this.cellSize);
+	}
+
+	private void ensureEntryCapacity(int required, int boxCount) {
+		if (this.unsortedBox.length >= required) {
+			return;
+		}
+		int capacity = Math.max(required, Math.max(this.unsortedBox.length * 2, boxCount * MAX_CELLS_PER_BOX));
+		this.unsortedBox = Arrays.copyOf(this.unsortedBox, capacity);
+		this.unsortedCellX = Arrays.copyOf(this.unsortedCellX, capacity);
+		this.unsortedCellY = Arrays.copyOf(this.unsortedCellY, capacity);
+		this.unsortedBucket = Arrays.copyOf(this.unsortedBucket, capacity);
+		this.entryBox = Arrays.copyOf(this.entryBox, capacity);
+		this.entryCellX = Arrays.copyOf(this.entryCellX, capacity);
+		this.entryCellY = Arrays.copyOf(this.entryCellY, capacity);
+	}
+}
@@ -0,0 +1,94 @@
+package de.tum.in.ase.eist.events;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * A crash as seen by the subscribers of a {@link CollisionEventBus}. Events are
+ * slots of the ring buffer that are reused for later crashes, so an event is
+ * only valid during {@link CollisionSubscriber#onCrash(CollisionEvent)} and
+ * must not be kept.
+ * <p>
+ * The event only holds copies of the crash data and no references to the cars,
+ * whose state keeps changing on the simulation thread.
+ */
+public final class CollisionEvent {
+
+	private long sequence;
+	private long tick;
+	private Class<? extends Car> firstCarType;
+	private Class<? extends Car> secondCarType;
+	private Class<? extends Car> winnerType;
+	private boolean playerInvolved;
+	private boolean playerWon;
+	private double winnerX;
+	private double winnerY;
+	private double impactTime;
+
+	CollisionEvent() {
+		// only created by the bus
+	}
+
+	void set(long newSequence, GameBoard gameBoard, Car car1, Car car2, Car winner, double newImpactTime) {
+		Car playerCar = gameBoard.getPlayerCar();
+		this.sequence = newSequence;
+		this.tick = gameBoard.getTick();
+		this.firstCarType = car1.getClass();
+		this.secondCarType = car2.getClass();
+		this.winnerType = winner.getClass();
+		this.playerInvolved = car1 == playerCar || car2 == playerCar;
+		this.playerWon = winner == playerCar;
+		this.winnerX = winner.getX();
+		this.winnerY = winner.getY();
+		this.impactTime = newImpactTime;
+	}
+
+	/**
+	 * @return the number of events published before this one
+	 */
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * @return the tick in which the crash happened
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	public Class<? extends Car> getFirstCarType() {
+		return this.firstCarType;
+	}
+
+	public Class<? extends Car> getSecondCarType() {
+		return this.secondCarType;
+	}
+
+	public Class<? extends Car> getWinnerType() {
+		return this.winnerType;
+	}
+
+	public boolean isPlayerInvolved() {
+		return this.playerInvolved;
+	}
+
+	public boolean isPlayerWon() {
+		return this.playerWon;
+	}
+
+	public double getWinnerX() {
+		return this.winnerX;
+	}
+
+	public double getWinnerY() {
+		return this.winnerY;
+	}
+
+	/**
+	 * @return the fraction of the tick at which the cars first touched
+	 */
+	public double getImpactTime() {
+		return this.impactTime;
+	}
+}
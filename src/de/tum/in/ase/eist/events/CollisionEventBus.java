@@ -0,0 +1,200 @@
+package de.tum.in.ase.eist.events;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.CollisionListener;
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * Hands the crashes of a game board to subscribers that run on their own
+ * threads, so that logging, sound or statistics never delay a tick. Set the bus
+ * as {@link GameBoard#setCollisionListener(CollisionListener) collision
+ * listener} of a game board.
+ * <p>
+ * The crashes are written into a bounded ring buffer of preallocated
+ * {@link CollisionEvent}s. The simulation thread is the only writer: it copies
+ * the crash into the next free slot and publishes its sequence number, without
+ * locking or allocating. Every subscriber follows the published sequence with
+ * its own cursor. If the slowest subscriber is a whole ring behind, new crashes
+ * are dropped and counted instead of blocking the tick. Idle subscribers park
+ * until the simulation thread publishes the next crash.
+ */
+public class CollisionEventBus implements CollisionListener, AutoCloseable {
+
+	private static final int DEFAULT_CAPACITY = 4096;
+
+	/**
+	 * A subscriber with its thread and the sequence of the last event it
+	 * consumed.
+	 */
+	private final class Subscription implements Runnable {
+
+		private final CollisionSubscriber subscriber;
+		private final AtomicLong consumed;
+		private final Thread thread;
+		/**
+		 * Set while the subscriber is about to park, so that the publisher only
+		 * unparks threads that are waiting.
+		 */
+		private volatile boolean parked;
+
+		private Subscription(String name, CollisionSubscriber subscriber) {
+			this.subscriber = subscriber;
+			this.consumed = new AtomicLong(CollisionEventBus.this.published.get());
+			this.thread = new Thread(this, name);
+			this.thread.setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			long next = this.consumed.get() + 1;
+			while (true) {
+				long available = CollisionEventBus.this.published.get();
+				if (next > available) {
+					if (CollisionEventBus.this.closed) {
+						return;
+					}
+					this.parked = true;
+					if (CollisionEventBus.this.published.get() < next && !CollisionEventBus.this.closed) {
+						LockSupport.park(this);
+					}
+					this.parked = false;
+					continue;
+				}
+				for (; next <= available; next++) {
+					try {
+						this.subscriber.onCrash(CollisionEventBus.this.ring[(int) next & CollisionEventBus.this.mask]);
+					} catch (RuntimeException e) {
+						System.err.println("Collision subscriber " + this.thread.getName() + " failed: " + e);
+					}
+				}
+				this.consumed.lazySet(available);
+			}
+		}
+	}
+
+	private final CollisionEvent[] ring;
+	private final int mask;
+
+	/**
+	 * The sequence of the last published event, -1 before the first one.
+	 */
+	private final AtomicLong published = new AtomicLong(-1);
+	private volatile Subscription[] subscriptions = new Subscription[0];
+	private volatile boolean closed;
+
+	// Only accessed by the publishing thread.
+	private long nextSequence;
+	private long gatingSequence = -1;
+	private volatile long droppedEvents;
+
+	/**
+	 * Creates a bus with room for {@value #DEFAULT_CAPACITY} unconsumed events.
+	 */
+	public CollisionEventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a bus.
+	 *
+	 * @param capacity the number of events a subscriber may fall behind, must be a
+	 *                 power of two
+	 */
+	public CollisionEventBus(int capacity) {
+		if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("The capacity must be a power of two.");
+		}
+		this.ring = new CollisionEvent[capacity];
+		for (int i = 0; i < capacity; i++) {
+			this.ring[i] = new CollisionEvent();
+		}
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Adds a subscriber on a new thread. It receives all crashes published from
+	 * now on.
+	 *
+	 * @param name       the name of the subscriber thread
+	 * @param subscriber the subscriber
+	 * @throws IllegalStateException if the bus is closed
+	 */
+	public synchronized void subscribe(String name, CollisionSubscriber subscriber) {
+		if (this.closed) {
+			throw new IllegalStateException("The collision event bus is closed.");
+		}
+		Subscription subscription = new Subscription(name, subscriber);
+		Subscription[] newSubscriptions = Arrays.copyOf(this.subscriptions, this.subscriptions.length + 1);
+		newSubscriptions[newSubscriptions.length - 1] = subscription;
+		this.subscriptions = newSubscriptions;
+		subscription.thread.start();
+	}
+
+	/**
+	 * Publishes a crash. Must only be called by one thread, the simulation thread
+	 * of the game board.
+	 */
+	@Override
+	public void crashed(GameBoard gameBoard, Car car1, Car car2, Car winner, double impactTime) {
+		long sequence = this.nextSequence;
+		if (sequence - this.gatingSequence > this.ring.length) {
+			this.gatingSequence = minimumConsumed(sequence - 1);
+			if (sequence - this.gatingSequence > this.ring.length) {
+				this.droppedEvents++;
+				return;
+			}
+		}
+		this.ring[(int) sequence & this.mask].set(sequence, gameBoard, car1, car2, winner, impactTime);
+		this.nextSequence = sequence + 1;
+		this.published.set(sequence);
+		for (Subscription subscription : this.subscriptions) {
+			if (subscription.parked) {
+				LockSupport.unpark(subscription.thread);
+			}
+		}
+	}
+
+	private long minimumConsumed(long minimum) {
+		long result = minimum;
+		for (Subscription subscription : this.subscriptions) {
+			result = Math.min(result, subscription.consumed.get());
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of crashes dropped because a subscriber fell a whole
+	 *         ring behind
+	 */
+	public long getDroppedEvents() {
+		return this.droppedEvents;
+	}
+
+	/**
+	 * Lets all subscribers consume the remaining events and stops their threads.
+	 * If the calling thread is interrupted while waiting, its interrupt flag is
+	 * restored and the remaining subscribers finish on their own.
+	 */
+	@Override
+	public void close() {
+		Subscription[] stopped;
+		synchronized (this) {
+			this.closed = true;
+			stopped = this.subscriptions;
+		}
+		for (Subscription subscription : stopped) {
+			LockSupport.unpark(subscription.thread);
+		}
+		try {
+			for (Subscription subscription : stopped) {
+				subscription.thread.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
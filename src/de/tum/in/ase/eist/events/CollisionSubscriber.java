@@ -0,0 +1,17 @@
+package de.tum.in.ase.eist.events;
+
+/**
+ * Consumes the crashes published on a {@link CollisionEventBus}. Every
+ * subscriber is called on its own thread, one event after the other in the
+ * order of publishing.
+ */
+@FunctionalInterface
+public interface CollisionSubscriber {
+
+	/**
+	 * Handles a crash.
+	 *
+	 * @param event the crash, only valid during this call
+	 */
+	void onCrash(CollisionEvent event);
+}
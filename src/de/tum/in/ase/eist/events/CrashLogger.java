@@ -0,0 +1,34 @@
+package de.tum.in.ase.eist.events;
+
+import java.io.PrintStream;
+
+/**
+ * Prints the winner of every crash on the thread of the subscriber, so that the
+ * simulation thread never waits for the console.
+ */
+public class CrashLogger implements CollisionSubscriber {
+
+	private final PrintStream output;
+
+	public CrashLogger() {
+		this(System.out);
+	}
+
+	/**
+	 * Creates a logger that prints to the given stream.
+	 *
+	 * @param output the stream to print to
+	 */
+	public CrashLogger(PrintStream output) {
+		this.output = output;
+	}
+
+	@Override
+	public void onCrash(CollisionEvent event) {
+		if (event.isPlayerWon()) {
+			this.output.println("The player's car won the collision!");
+		} else {
+			this.output.println(event.getWinnerType().getSimpleName() + " won the collision!");
+		}
+	}
+}
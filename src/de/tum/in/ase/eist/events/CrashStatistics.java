@@ -0,0 +1,65 @@
+package de.tum.in.ase.eist.events;
+
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.SlowCar;
+
+/**
+ * Counts the crashes and their winners. The counters are written by the
+ * subscriber thread, apart from {@link #reset()}, and can be read from any
+ * thread, e.g. to display them.
+ */
+public class CrashStatistics implements CollisionSubscriber {
+
+	private volatile long crashes;
+	private volatile long playerInvolved;
+	private volatile long playerWins;
+	private volatile long slowCarWins;
+	private volatile long fastCarWins;
+
+	@Override
+	public void onCrash(CollisionEvent event) {
+		this.crashes++;
+		if (event.isPlayerInvolved()) {
+			this.playerInvolved++;
+		}
+		if (event.isPlayerWon()) {
+			this.playerWins++;
+		} else if (event.getWinnerType() == SlowCar.class) {
+			this.slowCarWins++;
+		} else if (event.getWinnerType() == FastCar.class) {
+			this.fastCarWins++;
+		}
+	}
+
+	/**
+	 * Sets all counters to zero for a new game. Crashes of the previous game that
+	 * the subscriber has not consumed yet may still be counted afterwards.
+	 */
+	public void reset() {
+		this.crashes = 0;
+		this.playerInvolved = 0;
+		this.playerWins = 0;
+		this.slowCarWins = 0;
+		this.fastCarWins = 0;
+	}
+
+	public long getCrashes() {
+		return this.crashes;
+	}
+
+	public long getPlayerInvolved() {
+		return this.playerInvolved;
+	}
+
+	public long getPlayerWins() {
+		return this.playerWins;
+	}
+
+	public long getSlowCarWins() {
+		return this.slowCarWins;
+	}
+
+	public long getFastCarWins() {
+		return this.fastCarWins;
+	}
+}
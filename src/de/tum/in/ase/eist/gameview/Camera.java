@@ -0,0 +1,92 @@
+package de.tum.in.ase.eist.gameview;
+
+import de.tum.in.ase.eist.Dimension2D;
+
+/**
+ * The part of the world that is shown on the canvas. The camera keeps the
+ * player car in the middle of the viewport, but never shows anything outside
+ * of the world. If the world is smaller than the viewport, it is shown from its
+ * upper left corner.
+ * <p>
+ * Only used on the JavaFX Application Thread, which paints the game and handles
+ * the mouse, so that clicks are converted with the position the user sees.
+ */
+public class Camera {
+
+	private final Dimension2D viewportSize;
+	private double x;
+	private double y;
+
+	/**
+	 * Creates a camera showing the upper left corner of the world.
+	 *
+	 * @param viewportSize the size of the canvas
+	 */
+	public Camera(Dimension2D viewportSize) {
+		this.viewportSize = viewportSize;
+	}
+
+	/**
+	 * Moves the viewport so that it is centered on the given point as far as the
+	 * world allows.
+	 *
+	 * @param centerX   the x coordinate of the point to follow
+	 * @param centerY   the y coordinate of the point to follow
+	 * @param worldSize the size of the world
+	 * @return true if the viewport moved
+	 */
+	boolean follow(double centerX, double centerY, Dimension2D worldSize) {
+		double newX = clamp(centerX - this.viewportSize.getWidth() / 2,
+				worldSize.getWidth() - this.viewportSize.getWidth());
+		double newY = clamp(centerY - this.viewportSize.getHeight() / 2,
+				worldSize.getHeight() - this.viewportSize.getHeight());
+		boolean moved = newX != this.x || newY != this.y;
+		this.x = newX;
+		this.y = newY;
+		return moved;
+	}
+
+	private static double clamp(double value, double max) {
+		return Math.max(0, Math.min(value, max));
+	}
+
+	/**
+	 * @return the x coordinate of the upper left corner of the viewport in the
+	 *         world
+	 */
+	public double getX() {
+		return this.x;
+	}
+
+	/**
+	 * @return the y coordinate of the upper left corner of the viewport in the
+	 *         world
+	 */
+	public double getY() {
+		return this.y;
+	}
+
+	public Dimension2D getViewportSize() {
+		return this.viewportSize;
+	}
+
+	/**
+	 * Converts an x coordinate on the canvas into the world.
+	 *
+	 * @param screenX the x coordinate on the canvas
+	 * @return the x coordinate in the world
+	 */
+	public double toWorldX(double screenX) {
+		return screenX + this.x;
+	}
+
+	/**
+	 * Converts a y coordinate on the canvas into the world.
+	 *
+	 * @param screenY the y coordinate on the canvas
+	 * @return the y coordinate in the world
+	 */
+	public double toWorldY(double screenY) {
+		return screenY + this.y;
+	}
+}
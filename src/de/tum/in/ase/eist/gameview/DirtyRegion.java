@@ -0,0 +1,175 @@
+package de.tum.in.ase.eist.gameview;
+
+import java.util.Arrays;
+
+import de.tum.in.ase.eist.Dimension2D;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Tracks which parts of the canvas changed between two painted
+ * {@link FrameSnapshot}s. For every car that moved or changed its size, the
+ * rectangle it covered before and the one it covers now are dirty. Cars that
+ * did not move, e.g. crunched cars, do not cause any repainting.
+ */
+class DirtyRegion {
+
+	/**
+	 * Margin around every dirty rectangle for pixels touched by smoothing when a
+	 * car is drawn at a fractional position.
+	 */
+	private static final double MARGIN = 1;
+
+	// bounds of every car as it was painted last
+	private int paintedCount = -1;
+	private double[] paintedX = new double[0];
+	private double[] paintedY = new double[0];
+	private double[] paintedWidth = new double[0];
+	private double[] paintedHeight = new double[0];
+
+	// the dirty rectangles of the current frame, two for every car that moved
+	private int rectangleCount;
+	private double[] minX = new double[0];
+	private double[] minY = new double[0];
+	private double[] maxX = new double[0];
+	private double[] maxY = new double[0];
+
+	// bounding box of all dirty rectangles
+	private double unionMinX;
+	private double unionMinY;
+	private double unionMaxX;
+	private double unionMaxY;
+
+	/**
+	 * Collects the dirty rectangles between the last painted snapshot and the
+	 * given one.
+	 *
+	 * @param snapshot the snapshot that is about to be painted
+	 * @return false if the whole canvas needs to be repainted instead
+	 */
+	boolean collect(FrameSnapshot snapshot) {
+		this.rectangleCount = 0;
+		this.unionMinX = Double.POSITIVE_INFINITY;
+		this.unionMinY = Double.POSITIVE_INFINITY;
+		this.unionMaxX = Double.NEGATIVE_INFINITY;
+		this.unionMaxY = Double.NEGATIVE_INFINITY;
+		if (snapshot.size() != this.paintedCount) {
+			return false;
+		}
+		ensureRectangleCapacity(2 * snapshot.size());
+		for (int i = 0; i < snapshot.size(); i++) {
+			Dimension2D size = snapshot.getSize(i);
+			double x = snapshot.getX(i);
+			double y = snapshot.getY(i);
+			if (x == this.paintedX[i] && y == this.paintedY[i] && size.getWidth() == this.paintedWidth[i]
+					&& size.getHeight() == this.paintedHeight[i]) {
+				continue;
+			}
+			add(this.paintedX[i], this.paintedY[i], this.paintedWidth[i], this.paintedHeight[i]);
+			add(x, y, size.getWidth(), size.getHeight());
+		}
+		return true;
+	}
+
+	private void ensureRectangleCapacity(int capacity) {
+		if (this.minX.length >= capacity) {
+			return;
+		}
+		this.minX = new double[capacity];
+		this.minY = new double[capacity];
+		this.maxX = new double[capacity];
+		this.maxY = new double[capacity];
+	}
+
+	private void add(double x, double y, double width, double height) {
+		int index = this.rectangleCount++;
+		this.minX[index] = Math.floor(x - MARGIN);
+		this.minY[index] = Math.floor(y - MARGIN);
+		this.maxX[index] = Math.ceil(x + width + MARGIN);
+		this.maxY[index] = Math.ceil(y + height + MARGIN);
+		this.unionMinX = Math.min(this.unionMinX, this.minX[index]);
+		this.unionMinY = Math.min(this.unionMinY, this.minY[index]);
+		this.unionMaxX = Math.max(this.unionMaxX, this.maxX[index]);
+		this.unionMaxY = Math.max(this.unionMaxY, this.maxY[index]);
+	}
+
+	/**
+	 * Remembers the bounds of all cars of the snapshot that was just painted.
+	 *
+	 * @param snapshot the painted snapshot
+	 */
+	void remember(FrameSnapshot snapshot) {
+		int count = snapshot.size();
+		if (this.paintedX.length < count) {
+			this.paintedX = Arrays.copyOf(this.paintedX, count);
+			this.paintedY = Arrays.copyOf(this.paintedY, count);
+			this.paintedWidth = Arrays.copyOf(this.paintedWidth, count);
+			this.paintedHeight = Arrays.copyOf(this.paintedHeight, count);
+		}
+		for (int i = 0; i < count; i++) {
+			this.paintedX[i] = snapshot.getX(i);
+			this.paintedY[i] = snapshot.getY(i);
+			this.paintedWidth[i] = snapshot.getSize(i).getWidth();
+			this.paintedHeight[i] = snapshot.getSize(i).getHeight();
+		}
+		this.paintedCount = count;
+	}
+
+	/**
+	 * Forgets the painted bounds, so that the next frame is repainted completely.
+	 */
+	void invalidate() {
+		this.paintedCount = -1;
+	}
+
+	boolean isEmpty() {
+		return this.rectangleCount == 0;
+	}
+
+	/**
+	 * Restricts all further drawing to the union of the dirty rectangles. The
+	 * caller has to save the state of the graphics context before and restore it
+	 * afterwards.
+	 *
+	 * @param graphics the graphics context to clip
+	 */
+	void clip(GraphicsContext graphics) {
+		graphics.beginPath();
+		for (int i = 0; i < this.rectangleCount; i++) {
+			graphics.rect(this.minX[i], this.minY[i], this.maxX[i] - this.minX[i], this.maxY[i] - this.minY[i]);
+		}
+		graphics.clip();
+	}
+
+	/**
+	 * Checks whether a car with the given bounds may touch a dirty rectangle.
+	 *
+	 * @return false if the car lies completely outside of the dirty region
+	 */
+	boolean mayIntersect(double x, double y, double width, double height) {
+		if (x > this.unionMaxX || x + width < this.unionMinX || y > this.unionMaxY || y + height < this.unionMinY) {
+			return false;
+		}
+		for (int i = 0; i < this.rectangleCount; i++) {
+			if (x <= this.maxX[i] && x + width >= this.minX[i] && y <= this.maxY[i] && y + height >= this.minY[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	double getMinX() {
+		return this.unionMinX;
+	}
+
+	double getMinY() {
+		return this.unionMinY;
+	}
+
+	double getWidth() {
+		return this.unionMaxX - this.unionMinX;
+	}
+
+	double getHeight() {
+		return this.unionMaxY - this.unionMinY;
+	}
+}
@@ -0,0 +1,135 @@
+package de.tum.in.ase.eist.gameview;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * The state of all cars of a {@link GameBoard} at the end of one tick, as far as
+ * rendering needs it. A snapshot is filled by the simulation thread and only
+ * read once it has been published through a {@link SnapshotBuffer}, from then on
+ * it does not change until the renderer hands it back.
+ * <p>
+ * The cars are stored in painting order: all non-player cars first, the player
+ * car last. The non-player cars are indexed by their position, see
+ * {@link #queryCars(double, double, double, double)}.
+ */
+public class FrameSnapshot {
+
+	/**
+	 * Increases with every published snapshot, 0 for a snapshot that was never
+	 * filled.
+	 */
+	private long sequence;
+
+	private int count;
+	private double[] x = new double[0];
+	private double[] y = new double[0];
+	private Dimension2D[] sizes = new Dimension2D[0];
+	private String[] iconLocations = new String[0];
+	private Dimension2D worldSize;
+	private final SnapshotGrid grid = new SnapshotGrid();
+
+	/**
+	 * Copies the state of all cars of the game board into this snapshot, reusing
+	 * its arrays when possible.
+	 *
+	 * @param gameBoard   the game board to copy
+	 * @param newSequence the sequence number of this snapshot
+	 */
+	void fill(GameBoard gameBoard, long newSequence) {
+		List<Car> cars = gameBoard.getCars();
+		ensureCapacity(cars.size() + 1);
+		this.count = cars.size() + 1;
+		for (int i = 0; i < cars.size(); i++) {
+			set(i, cars.get(i));
+		}
+		set(cars.size(), gameBoard.getPlayerCar());
+		this.worldSize = gameBoard.getSize();
+		this.grid.build(this.x, this.y, this.sizes, cars.size());
+		this.sequence = newSequence;
+	}
+
+	private void set(int index, Car car) {
+		this.x[index] = car.getX();
+		this.y[index] = car.getY();
+		this.sizes[index] = car.getSize();
+		this.iconLocations[index] = car.getIconLocation();
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (this.x.length >= capacity) {
+			return;
+		}
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+		this.sizes = Arrays.copyOf(this.sizes, capacity);
+		this.iconLocations = Arrays.copyOf(this.iconLocations, capacity);
+	}
+
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * Returns the number of cars in this snapshot, including the player car.
+	 *
+	 * @return the number of cars
+	 */
+	public int size() {
+		return this.count;
+	}
+
+	public double getX(int index) {
+		return this.x[index];
+	}
+
+	public double getY(int index) {
+		return this.y[index];
+	}
+
+	public Dimension2D getSize(int index) {
+		return this.sizes[index];
+	}
+
+	public String getIconLocation(int index) {
+		return this.iconLocations[index];
+	}
+
+	/**
+	 * Returns the size of the game board the snapshot was taken of.
+	 *
+	 * @return the size of the world, null if the snapshot was never filled
+	 */
+	public Dimension2D getWorldSize() {
+		return this.worldSize;
+	}
+
+	/**
+	 * Finds the non-player cars that may touch the given rectangle of the world,
+	 * without looking at the cars far away from it. The result may contain cars
+	 * just outside of the rectangle and stays valid until the next query.
+	 *
+	 * @param queryX the x coordinate of the upper left corner of the rectangle
+	 * @param queryY the y coordinate of the upper left corner of the rectangle
+	 * @param width  the width of the rectangle
+	 * @param height the height of the rectangle
+	 * @return the number of cars found, see {@link #getFoundCar(int)}
+	 */
+	public int queryCars(double queryX, double queryY, double width, double height) {
+		return this.grid.query(queryX, queryY, width, height);
+	}
+
+	/**
+	 * Returns a car found by the last query, in painting order.
+	 *
+	 * @param i the position in the result, smaller than the number of cars found
+	 * @return the index of the car in this snapshot
+	 */
+	public int getFoundCar(int i) {
+		return this.grid.getFound(i);
+	}
+}
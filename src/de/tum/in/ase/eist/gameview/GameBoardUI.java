@@ -1,24 +1,45 @@
 package de.tum.in.ase.eist.gameview;
 
-import java.net.URL;
-import java.util.HashMap;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import de.tum.in.ase.eist.Car;
 import de.tum.in.ase.eist.Dimension2D;
 import de.tum.in.ase.eist.GameBoard;
-import de.tum.in.ase.eist.Point2D;
-import de.tum.in.ase.eist.audio.AudioPlayer;
+import de.tum.in.ase.eist.InputLog;
+import de.tum.in.ase.eist.assets.AssetManager;
+import de.tum.in.ase.eist.audio.CoalescingAudioPlayer;
+import de.tum.in.ase.eist.events.CollisionEventBus;
+import de.tum.in.ase.eist.events.CrashLogger;
+import de.tum.in.ase.eist.events.CrashStatistics;
+import de.tum.in.ase.eist.jfr.PaintEvent;
+import de.tum.in.ase.eist.metrics.LatencyHistogram;
+import de.tum.in.ase.eist.metrics.TickMetrics;
 import de.tum.in.ase.eist.usercontrol.MouseSteering;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.image.Image;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 
 /**
  * This class implements the user interface for steering the player car. The
- * user interface is implemented as a Thread that is started by clicking the
- * start button on the tool bar and stops by the stop button.
+ * game is simulated on a timer thread that is started by clicking the start
+ * button on the tool bar and stops by the stop button. After every tick the
+ * simulation publishes a {@link FrameSnapshot}, which an {@link AnimationTimer}
+ * renders on the JavaFX Application Thread.
+ * <p>
+ * The world can be larger than the canvas, see {@value #WORLD_SIZE_PROPERTY}.
+ * The canvas then shows the part of the world around the player car, as seen
+ * by a {@link Camera}, and only the cars in this part are drawn.
  */
 public class GameBoardUI extends Canvas {
 
@@ -31,15 +52,109 @@ public class GameBoardUI extends Canvas {
 	private static final int DEFAULT_HEIGHT = 300;
 	private static final Dimension2D DEFAULT_SIZE = new Dimension2D(DEFAULT_WIDTH, DEFAULT_HEIGHT);
 
+	private static final Color OVERLAY_BACKGROUND_COLOR = Color.rgb(32, 32, 32);
+	private static final Color OVERLAY_TEXT_COLOR = Color.rgb(220, 255, 220);
+	private static final Font OVERLAY_FONT = Font.font("Monospaced", 11);
+	private static final double OVERLAY_MARGIN = 5;
+	private static final double OVERLAY_LINE_HEIGHT = 13;
+	private static final double OVERLAY_WIDTH = 290;
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	/**
+	 * System property with the seed of the game board, a random seed is used if it
+	 * is not set.
+	 */
+	private static final String SEED_PROPERTY = "bumpers.seed";
+
+	/**
+	 * System property with a file the player inputs are saved to whenever the game
+	 * stops, nothing is saved if it is not set.
+	 */
+	private static final String INPUT_LOG_PROPERTY = "bumpers.inputLog";
+
+	/**
+	 * System property with the size of the world as {@code WIDTHxHEIGHT}, e.g.
+	 * {@code 5000x3000}. The world is as large as the canvas if it is not set.
+	 */
+	private static final String WORLD_SIZE_PROPERTY = "bumpers.worldSize";
+	private static final String WORLD_SIZE_SEPARATOR = "x";
+
 	public static Dimension2D getPreferredSize() {
 		return DEFAULT_SIZE;
 	}
 
+	/**
+	 * Returns the size of the game board, which may be larger than the canvas.
+	 *
+	 * @return the size set with {@value #WORLD_SIZE_PROPERTY}, the size of the
+	 *         canvas if it is not set
+	 * @throws IllegalArgumentException if the property is malformed
+	 */
+	public static Dimension2D getWorldSize() {
+		String worldSize = System.getProperty(WORLD_SIZE_PROPERTY);
+		if (worldSize == null) {
+			return DEFAULT_SIZE;
+		}
+		String[] parts = worldSize.split(WORLD_SIZE_SEPARATOR);
+		try {
+			if (parts.length == 2) {
+				double width = Double.parseDouble(parts[0]);
+				double height = Double.parseDouble(parts[1]);
+				if (width > 0 && height > 0) {
+					return new Dimension2D(width, height);
+				}
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new IllegalArgumentException(
+				"The world size must be given as WIDTHxHEIGHT, e.g. 5000x3000, but was " + worldSize + ".");
+	}
+
 	/**
 	 * Timer responsible for updating the game every frame that runs in a separate
-	 * thread.
+	 * thread, null while the game is stopped.
+	 */
+	private ScheduledExecutorService gameTimer;
+
+	/**
+	 * Renders the latest snapshot on the JavaFX Application Thread once per pulse.
+	 */
+	private final AnimationTimer renderTimer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			paint();
+		}
+	};
+
+	private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+
+	/**
+	 * The sequence number of the snapshot that is currently on the canvas.
+	 */
+	private long paintedSequence;
+
+	/**
+	 * true if only the regions of moved cars are repainted, false if the whole
+	 * canvas is repainted every frame.
+	 */
+	private boolean dirtyRectangleRendering;
+
+	private final DirtyRegion dirtyRegion = new DirtyRegion();
+
+	private final Camera camera = new Camera(DEFAULT_SIZE);
+
+	/**
+	 * The number of cars drawn in the last paint pass.
+	 */
+	private int paintedCars;
+
+	private final TickMetrics tickMetrics = new TickMetrics(TimeUnit.MILLISECONDS.toNanos(UPDATE_PERIOD));
+
+	/**
+	 * true if the latency histograms are shown on top of the game.
 	 */
-	private Timer gameTimer;
+	private boolean statsOverlayVisible;
 
 	private GameBoard gameBoard;
 
@@ -47,10 +162,41 @@ public static Dimension2D getPreferredSize() {
 
 	private MouseSteering mouseSteering;
 
-	private HashMap<String, Image> imageCache;
+	/**
+	 * The player inputs of the current game, replayable with
+	 * {@link de.tum.in.ase.eist.headless.HeadlessReplay}.
+	 */
+	private InputLog inputLog;
+
+	/**
+	 * The full-size images of all car icons and the sounds, shared by all game
+	 * boards.
+	 */
+	private final AssetManager assets = new AssetManager();
+
+	/**
+	 * Plays the sounds of all game boards off the simulation thread, null until
+	 * the sounds are loaded.
+	 */
+	private CoalescingAudioPlayer audioPlayer;
+
+	/**
+	 * Logs and counts the crashes of all games off the simulation thread.
+	 */
+	private final CollisionEventBus collisionEvents = new CollisionEventBus();
+
+	private final CrashStatistics crashStatistics = new CrashStatistics();
+
+	/**
+	 * The car images pre-scaled to every size they are drawn in.
+	 */
+	private final SpriteAtlas spriteAtlas = new SpriteAtlas(icon -> this.assets.getImage(icon));
+
 
 	public GameBoardUI(GameToolBar gameToolBar) {
 		this.gameToolBar = gameToolBar;
+		this.collisionEvents.subscribe("crash-logger", new CrashLogger());
+		this.collisionEvents.subscribe("crash-statistics", this.crashStatistics);
 		setup();
 	}
 
@@ -62,49 +208,124 @@ public MouseSteering getMouseSteering() {
 		return mouseSteering;
 	}
 
+	public InputLog getInputLog() {
+		return inputLog;
+	}
+
+	public Camera getCamera() {
+		return this.camera;
+	}
+
+	public boolean isDirtyRectangleRendering() {
+		return this.dirtyRectangleRendering;
+	}
+
+	/**
+	 * Sets whether only the regions of cars that moved since the last frame are
+	 * cleared and redrawn. Saves fill rate and draw calls on large canvases with
+	 * many standing cars.
+	 *
+	 * @param dirtyRectangleRendering true to only repaint dirty regions, false to
+	 *                                repaint the whole canvas every frame
+	 */
+	public void setDirtyRectangleRendering(boolean dirtyRectangleRendering) {
+		this.dirtyRectangleRendering = dirtyRectangleRendering;
+		this.dirtyRegion.invalidate();
+	}
+
+	public TickMetrics getTickMetrics() {
+		return this.tickMetrics;
+	}
+
+	public boolean isStatsOverlayVisible() {
+		return this.statsOverlayVisible;
+	}
+
 	/**
-	 * Removes all existing cars from the game board and re-adds them. Player car is
-	 * reset to default starting position. Renders graphics.
+	 * Shows or hides the overlay with the latency percentiles of the tick phases
+	 * and of painting.
+	 *
+	 * @param statsOverlayVisible true to show the overlay
+	 */
+	public void setStatsOverlayVisible(boolean statsOverlayVisible) {
+		this.statsOverlayVisible = statsOverlayVisible;
+		// repaint everything, also the area below a hidden overlay
+		this.dirtyRegion.invalidate();
+		this.paintedSequence = -1;
+		paint();
+	}
+
+	/**
+	 * Resets all cars of the game board to new random values. Player car is reset
+	 * to default starting position. Renders graphics once all assets are loaded.
 	 */
 	public void setup() {
 		setupGameBoard();
-		setupImageCache();
+		this.assets.preloadImages(getIconLocations());
+		this.dirtyRegion.invalidate();
 		this.gameToolBar.updateToolBarStatus(false);
+		this.snapshotBuffer.publish(this.gameBoard);
+		if (!this.assets.isReady()) {
+			this.gameToolBar.updateAssetStatus(false, "Loading assets...");
+		}
+		this.assets.whenReady().whenComplete((ignored, error) -> Platform.runLater(() -> assetsLoaded(error)));
 		paint();
 	}
 
-	private void setupGameBoard() {
-		Dimension2D size = getPreferredSize();
-		this.gameBoard = new GameBoard(size);
-		this.gameBoard.setAudioPlayer(new AudioPlayer());
-		widthProperty().set(size.getWidth());
-		heightProperty().set(size.getHeight());
-		this.mouseSteering = new MouseSteering(this, this.gameBoard.getPlayerCar());
-	}
-
-	private void setupImageCache() {
-		this.imageCache = new HashMap<>();
+	private Set<String> getIconLocations() {
+		Set<String> iconLocations = new HashSet<>();
+		iconLocations.add(this.gameBoard.getPlayerCar().getIconLocation());
 		for (Car car : this.gameBoard.getCars()) {
-			String imageLocation = car.getIconLocation();
-			this.imageCache.computeIfAbsent(imageLocation, this::getImage);
+			iconLocations.add(car.getIconLocation());
 		}
-		String playerImageLocation = this.gameBoard.getPlayerCar().getIconLocation();
-		this.imageCache.put(playerImageLocation, getImage(playerImageLocation));
+		return iconLocations;
 	}
 
 	/**
-	 * Sets the car's image.
+	 * Called on the JavaFX Application Thread once loading the assets has
+	 * finished. Hands the sounds to the game board, enables the start button and
+	 * renders the game.
 	 *
-	 * @param carImageFilePath an image file path that needs to be available in the
-	 *                         resources folder of the project
+	 * @param error the reason loading failed, null if all assets are loaded
+	 */
+	private void assetsLoaded(Throwable error) {
+		if (error != null) {
+			this.gameToolBar.updateAssetStatus(false, "Loading assets failed");
+			System.err.println("Could not load the assets: " + error.getMessage());
+			return;
+		}
+		if (this.audioPlayer == null) {
+			this.audioPlayer = new CoalescingAudioPlayer(this.assets.getAudioPlayer());
+		}
+		this.gameBoard.setAudioPlayer(this.audioPlayer);
+		this.gameToolBar.updateAssetStatus(true, "");
+		this.dirtyRegion.invalidate();
+		this.paintedSequence = -1;
+		paint();
+	}
+
+	/**
+	 * Creates the game board on the first call. Later calls reset the existing
+	 * board in place, so that its cars, the mouse handler and the audio player
+	 * are reused for every game.
 	 */
-	private Image getImage(String carImageFilePath) {
-		URL carImageUrl = getClass().getClassLoader().getResource(carImageFilePath);
-		if (carImageUrl == null) {
-			throw new IllegalArgumentException(
-					"Please ensure that your resources folder contains the appropriate files for this exercise.");
+	private void setupGameBoard() {
+		Dimension2D size = getWorldSize();
+		long seed = Long.getLong(SEED_PROPERTY, ThreadLocalRandom.current().nextLong());
+		if (this.gameBoard == null) {
+			this.gameBoard = new GameBoard(size, seed);
+			this.gameBoard.setTickMetrics(this.tickMetrics);
+			this.gameBoard.setCollisionListener(this.collisionEvents);
+			widthProperty().set(getPreferredSize().getWidth());
+			heightProperty().set(getPreferredSize().getHeight());
+			this.mouseSteering = new MouseSteering(this, this.gameBoard);
+		} else {
+			this.gameBoard.reset(seed);
 		}
-		return new Image(carImageUrl.toExternalForm());
+		this.inputLog = new InputLog(seed, size);
+		this.gameBoard.setInputRecording(this.inputLog);
+		this.tickMetrics.reset();
+		this.crashStatistics.reset();
 	}
 
 	/**
@@ -117,29 +338,39 @@ public void startGame() {
 			this.gameBoard.startGame();
 			this.gameToolBar.updateToolBarStatus(true);
 			startTimer();
-			paint();
+			this.renderTimer.start();
 		}
 	}
 
 	private void startTimer() {
-		TimerTask timerTask = new TimerTask() {
-			@Override
-			public void run() {
-				updateGame();
-			}
-		};
-		if (this.gameTimer != null) {
-			this.gameTimer.cancel();
+		stopTimer();
+		this.gameTimer = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "game-timer"));
+		this.gameTimer.scheduleAtFixedRate(this::updateGame, UPDATE_PERIOD, UPDATE_PERIOD, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops the timer and waits until a tick that is already running has
+	 * finished, so that the game board and the input log can be used safely
+	 * afterwards, e.g. to reset the board.
+	 */
+	private void stopTimer() {
+		if (this.gameTimer == null) {
+			return;
 		}
-		this.gameTimer = new Timer();
-		this.gameTimer.scheduleAtFixedRate(timerTask, UPDATE_PERIOD, UPDATE_PERIOD);
+		this.gameTimer.shutdown();
+		try {
+			this.gameTimer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		this.gameTimer = null;
 	}
 
 	private void updateGame() {
 		if (gameBoard.isRunning()) {
-			// updates car positions and re-renders graphics
+			// updates car positions and hands them to the renderer
 			gameBoard.update();
-			paint();
+			this.snapshotBuffer.publish(gameBoard);
 		}
 	}
 
@@ -150,34 +381,194 @@ public void stopGame() {
 		if (this.gameBoard.isRunning()) {
 			this.gameBoard.stopGame();
 			this.gameToolBar.updateToolBarStatus(false);
-			this.gameTimer.cancel();
+			stopTimer();
+			this.renderTimer.stop();
+			saveInputLog();
+		}
+	}
+
+	/**
+	 * Stops the game and the threads that play the crash sounds and consume the
+	 * crashes. Called once when the application exits.
+	 */
+	public void shutDown() {
+		stopGame();
+		if (this.audioPlayer != null) {
+			this.audioPlayer.shutDown();
+		}
+		this.collisionEvents.close();
+	}
+
+	/**
+	 * Saves the player inputs so far if {@value #INPUT_LOG_PROPERTY} is set.
+	 */
+	private void saveInputLog() {
+		String inputLogFile = System.getProperty(INPUT_LOG_PROPERTY);
+		if (inputLogFile == null) {
+			return;
+		}
+		try {
+			this.inputLog.save(Path.of(inputLogFile));
+		} catch (IOException e) {
+			System.err.println("Could not save the input log: " + e.getMessage());
 		}
 	}
 
 	/**
-	 * Render the graphics of the whole game by iterating through the cars of the
-	 * game board at render each of them individually.
+	 * Render the graphics of the game by moving the camera to the player car of
+	 * the latest snapshot and rendering each car inside the viewport
+	 * individually. Nothing is drawn if the snapshot is already on the canvas.
+	 * Must be called on the JavaFX Application Thread.
 	 */
 	private void paint() {
-		getGraphicsContext2D().setFill(BACKGROUND_COLOR);
-		getGraphicsContext2D().fillRect(0, 0, getWidth(), getHeight());
+		if (!this.assets.isReady()) {
+			getGraphicsContext2D().setFill(BACKGROUND_COLOR);
+			getGraphicsContext2D().fillRect(0, 0, getWidth(), getHeight());
+			return;
+		}
+		FrameSnapshot snapshot = this.snapshotBuffer.acquireLatest();
+		if (snapshot.getSequence() == this.paintedSequence) {
+			return;
+		}
+		PaintEvent paintEvent = new PaintEvent();
+		paintEvent.begin();
+		long paintStart = System.nanoTime();
+		int playerIndex = snapshot.size() - 1;
+		Dimension2D playerSize = snapshot.getSize(playerIndex);
+		if (this.camera.follow(snapshot.getX(playerIndex) + playerSize.getWidth() / 2,
+				snapshot.getY(playerIndex) + playerSize.getHeight() / 2, snapshot.getWorldSize())) {
+			// every car moved on the canvas
+			this.dirtyRegion.invalidate();
+		}
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.save();
+		graphics.translate(-this.camera.getX(), -this.camera.getY());
+		if (this.dirtyRectangleRendering && this.dirtyRegion.collect(snapshot)) {
+			paintDirtyRegion(snapshot);
+		} else {
+			graphics.setFill(BACKGROUND_COLOR);
+			graphics.fillRect(this.camera.getX(), this.camera.getY(), getWidth(), getHeight());
+			paintAllCars(snapshot);
+		}
+		graphics.restore();
+		if (this.dirtyRectangleRendering) {
+			this.dirtyRegion.remember(snapshot);
+		}
+		this.paintedSequence = snapshot.getSequence();
+		this.tickMetrics.getPaint().record(System.nanoTime() - paintStart);
+		paintEvent.end();
+		if (paintEvent.shouldCommit()) {
+			paintEvent.cars = snapshot.size();
+			paintEvent.paintedCars = this.paintedCars;
+			paintEvent.sequence = snapshot.getSequence();
+			paintEvent.dirtyRectangles = this.dirtyRectangleRendering;
+			paintEvent.commit();
+		}
+		if (this.statsOverlayVisible) {
+			paintStatsOverlay();
+		}
+	}
 
-		for (Car car : this.gameBoard.getCars()) {
-			paintCar(car);
+	/**
+	 * Renders the latency percentiles in milliseconds in the upper left corner.
+	 * The overlay is opaque, so painting it again every frame does not need the
+	 * area below it to be cleared.
+	 */
+	private void paintStatsOverlay() {
+		String[] lines = { String.format(Locale.ROOT, "%-9s %6s %6s %6s %6s", "ms", "p50", "p99", "p99.9", "max"),
+				formatHistogram("tick", this.tickMetrics.getTick()),
+				formatHistogram("drive", this.tickMetrics.getDrive()),
+				formatHistogram("collision", this.tickMetrics.getCollision()),
+				formatHistogram("audio", this.tickMetrics.getAudio()),
+				formatHistogram("paint", this.tickMetrics.getPaint()),
+				formatHistogram("interval", this.tickMetrics.getTickInterval()),
+				String.format(Locale.ROOT, "missed %d ms periods: %d", UPDATE_PERIOD,
+						this.tickMetrics.getMissedTickPeriods()),
+				String.format(Locale.ROOT, "crashes: %d, player won: %d, dropped: %d",
+						this.crashStatistics.getCrashes(), this.crashStatistics.getPlayerWins(),
+						this.collisionEvents.getDroppedEvents()) };
+
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.setFill(OVERLAY_BACKGROUND_COLOR);
+		graphics.fillRect(OVERLAY_MARGIN, OVERLAY_MARGIN, OVERLAY_WIDTH,
+				lines.length * OVERLAY_LINE_HEIGHT + OVERLAY_MARGIN);
+		graphics.setFill(OVERLAY_TEXT_COLOR);
+		graphics.setFont(OVERLAY_FONT);
+		for (int i = 0; i < lines.length; i++) {
+			graphics.fillText(lines[i], 2 * OVERLAY_MARGIN, OVERLAY_MARGIN + (i + 1) * OVERLAY_LINE_HEIGHT);
 		}
-		// render player car
-		paintCar(this.gameBoard.getPlayerCar());
+	}
+
+	private static String formatHistogram(String name, LatencyHistogram histogram) {
+		return String.format(Locale.ROOT, "%-9s %6.2f %6.2f %6.2f %6.2f", name,
+				histogram.getPercentile(50) / NANOS_PER_MILLI, histogram.getPercentile(99) / NANOS_PER_MILLI,
+				histogram.getPercentile(99.9) / NANOS_PER_MILLI, histogram.getMax() / NANOS_PER_MILLI);
 	}
 
 	/**
-	 * Show image of a car at the current position of the car.
+	 * Clears and redraws only the dirty region, i.e. the old and new bounds of
+	 * every car that moved. All cars touching the region are redrawn in painting
+	 * order, clipped to the region. Expects the graphics context to be translated
+	 * to world coordinates.
 	 *
-	 * @param car to be drawn
+	 * @param snapshot the snapshot to render
 	 */
-	private void paintCar(Car car) {
-		Point2D carPosition = car.getPosition();
+	private void paintDirtyRegion(FrameSnapshot snapshot) {
+		this.paintedCars = 0;
+		if (this.dirtyRegion.isEmpty()) {
+			return;
+		}
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.save();
+		this.dirtyRegion.clip(graphics);
+		graphics.setFill(BACKGROUND_COLOR);
+		graphics.fillRect(this.dirtyRegion.getMinX(), this.dirtyRegion.getMinY(), this.dirtyRegion.getWidth(),
+				this.dirtyRegion.getHeight());
+		int found = snapshot.queryCars(this.dirtyRegion.getMinX(), this.dirtyRegion.getMinY(),
+				this.dirtyRegion.getWidth(), this.dirtyRegion.getHeight());
+		for (int i = 0; i < found; i++) {
+			paintCarIfDirty(snapshot, snapshot.getFoundCar(i));
+		}
+		paintCarIfDirty(snapshot, snapshot.size() - 1);
+		graphics.restore();
+	}
 
-		getGraphicsContext2D().drawImage(this.imageCache.get(car.getIconLocation()), carPosition.getX(),
-				carPosition.getY(), car.getSize().getWidth(), car.getSize().getHeight());
+	private void paintCarIfDirty(FrameSnapshot snapshot, int index) {
+		Dimension2D carSize = snapshot.getSize(index);
+		if (this.dirtyRegion.mayIntersect(snapshot.getX(index), snapshot.getY(index), carSize.getWidth(),
+				carSize.getHeight())) {
+			paintCar(snapshot, index);
+			this.paintedCars++;
+		}
+	}
+
+	/**
+	 * Renders all cars of the snapshot inside the viewport in painting order, the
+	 * same order as {@link #paintDirtyRegion(FrameSnapshot)}, so that overlapping
+	 * cars look the same in both modes. The player car is rendered last, on top
+	 * of all other cars. Expects the graphics context to be translated to world
+	 * coordinates.
+	 *
+	 * @param snapshot the snapshot to render
+	 */
+	private void paintAllCars(FrameSnapshot snapshot) {
+		int playerIndex = snapshot.size() - 1;
+		int found = snapshot.queryCars(this.camera.getX(), this.camera.getY(), getWidth(), getHeight());
+		for (int i = 0; i < found; i++) {
+			paintCar(snapshot, snapshot.getFoundCar(i));
+		}
+		paintCar(snapshot, playerIndex);
+		this.paintedCars = found + 1;
+	}
+
+	/**
+	 * Show image of a car at the position it had in the snapshot.
+	 *
+	 * @param snapshot the snapshot containing the car
+	 * @param index    the index of the car in the snapshot
+	 */
+	private void paintCar(FrameSnapshot snapshot, int index) {
+		SpriteAtlas.Sprite sprite = this.spriteAtlas.get(snapshot.getIconLocation(index), snapshot.getSize(index));
+		this.spriteAtlas.draw(getGraphicsContext2D(), sprite, snapshot.getX(index), snapshot.getY(index));
 	}
 }
@@ -11,13 +11,22 @@
 public class GameToolBar extends ToolBar {
 	private final Button start;
 	private final Button stop;
+	private final CheckBox dirtyRectangles;
+	private final ToggleButton stats;
+	private final Label assetStatus;
+	private boolean running;
+	private boolean assetsReady;
 
 	public GameToolBar() {
 		this.start = new Button("Start");
 		this.stop = new Button("Stop");
+		this.dirtyRectangles = new CheckBox("Dirty rectangles");
+		this.stats = new ToggleButton("Stats");
+		this.assetStatus = new Label();
 		// the game is stopped initially
 		updateToolBarStatus(false);
-		getItems().addAll(this.start, new Separator(), this.stop);
+		getItems().addAll(this.start, new Separator(), this.stop, new Separator(), this.dirtyRectangles,
+				this.stats, this.assetStatus);
 	}
 
 	/**
@@ -25,6 +34,11 @@ public GameToolBar() {
 	 */
 	public void initializeActions(GameBoardUI gameBoardUI) {
 		this.start.setOnAction(event -> gameBoardUI.startGame());
+		this.dirtyRectangles.setSelected(gameBoardUI.isDirtyRectangleRendering());
+		this.dirtyRectangles.setOnAction(
+				event -> gameBoardUI.setDirtyRectangleRendering(this.dirtyRectangles.isSelected()));
+		this.stats.setSelected(gameBoardUI.isStatsOverlayVisible());
+		this.stats.setOnAction(event -> gameBoardUI.setStatsOverlayVisible(this.stats.isSelected()));
 
 		this.stop.setOnAction(event -> {
 			// stop the game while the alert is shown
@@ -57,7 +71,21 @@ public void initializeActions(GameBoardUI gameBoardUI) {
 	 * @param running true if game is running, false otherwise
 	 */
 	public void updateToolBarStatus(boolean running) {
-		this.start.setDisable(running);
+		this.running = running;
+		this.start.setDisable(running || !this.assetsReady);
 		this.stop.setDisable(!running);
 	}
+
+	/**
+	 * Shows whether the images and sounds are loaded. The game cannot be started
+	 * before.
+	 *
+	 * @param ready  true if all assets are loaded
+	 * @param status the text to show next to the buttons
+	 */
+	public void updateAssetStatus(boolean ready, String status) {
+		this.assetsReady = ready;
+		this.assetStatus.setText(status);
+		updateToolBarStatus(this.running);
+	}
 }
@@ -0,0 +1,61 @@
+package de.tum.in.ase.eist.gameview;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * Hands {@link FrameSnapshot}s from the simulation thread to the rendering
+ * thread without either side waiting for the other.
+ * <p>
+ * This is double buffering with a spare buffer in between: the simulation
+ * fills its back buffer while the renderer draws its front buffer, and both
+ * sides only ever swap their own buffer with the spare one atomically. So the
+ * renderer always draws the latest complete snapshot, and a snapshot is never
+ * changed while it is being drawn.
+ */
+public class SnapshotBuffer {
+
+	/**
+	 * Only touched by the simulation thread.
+	 */
+	private FrameSnapshot back = new FrameSnapshot();
+	private long lastSequence;
+
+	/**
+	 * Either the latest published snapshot or the one the renderer handed back.
+	 */
+	private final AtomicReference<FrameSnapshot> spare = new AtomicReference<>(new FrameSnapshot());
+
+	/**
+	 * Only touched by the rendering thread.
+	 */
+	private FrameSnapshot front = new FrameSnapshot();
+
+	/**
+	 * Copies the current state of the game board and publishes it. Must only be
+	 * called by one thread at a time.
+	 *
+	 * @param gameBoard the game board to publish
+	 */
+	public void publish(GameBoard gameBoard) {
+		this.back.fill(gameBoard, ++this.lastSequence);
+		this.back = this.spare.getAndSet(this.back);
+	}
+
+	/**
+	 * Returns the latest published snapshot. The snapshot stays valid until the
+	 * next call of this method. Must only be called by one thread at a time.
+	 *
+	 * @return the latest snapshot, an empty one with sequence 0 if nothing was
+	 *         published yet
+	 */
+	public FrameSnapshot acquireLatest() {
+		// the spare only ever gets replaced by newer snapshots, so it can be swapped
+		// safely once it is newer than the front
+		if (this.spare.get().getSequence() > this.front.getSequence()) {
+			this.front = this.spare.getAndSet(this.front);
+		}
+		return this.front;
+	}
+}
@@ -0,0 +1,204 @@
+package de.tum.in.ase.eist.gameview;
+
+import java.util.Arrays;
+
+import de.tum.in.ase.eist.Dimension2D;
+
+/**
+ * Spatial index over the cars of a {@link FrameSnapshot}, so that rendering only
+ * looks at the cars inside the viewport. The world is divided into square cells
+ * and every car is sorted into the cell containing its upper left corner. Like
+ * in {@link de.tum.in.ase.eist.broadphase.UniformGridBroadPhase}, the cells are
+ * hashed into a table of buckets sized by the number of cars, so the memory and
+ * the time to build the grid do not depend on the size of the world.
+ * <p>
+ * A query visits the buckets of the cells covering the queried rectangle. If
+ * the rectangle covers more cells than there are buckets, all cars are checked
+ * instead, so a query never takes more than time linear in the number of cars.
+ */
+class SnapshotGrid {
+
+	/**
+	 * The width and height of a cell in world coordinates, a few times the size of
+	 * a car.
+	 */
+	private static final double CELL_SIZE = 128;
+
+	private static final int HASH_PRIME_X = 73856093;
+	private static final int HASH_PRIME_Y = 19349663;
+
+	private int carCount;
+	private int bucketMask = -1;
+
+	/**
+	 * The largest width and height of all cars. A car whose corner lies up to this
+	 * far outside of a queried rectangle may still reach into it.
+	 */
+	private double maxCarWidth;
+	private double maxCarHeight;
+
+	// the range of the cells containing a car, queries are clipped to it
+	private int minCellX;
+	private int maxCellX;
+	private int minCellY;
+	private int maxCellY;
+
+	// the cell of every car
+	private int[] carCellX = new int[0];
+	private int[] carCellY = new int[0];
+	private int[] carBucket = new int[0];
+
+	// the indices of the cars sorted by bucket, bucket b holds the entries from
+	// bucketStart[b] (inclusive) to bucketStart[b + 1] (exclusive)
+	private int[] bucketStart = new int[0];
+	private int[] bucketCars = new int[0];
+
+	// the result of the last query
+	private int[] found = new int[0];
+	private int foundCount;
+
+	/**
+	 * Sorts the given cars into their cells, reusing the arrays of this grid when
+	 * possible.
+	 *
+	 * @param x     the x coordinates of the cars
+	 * @param y     the y coordinates of the cars
+	 * @param sizes the sizes of the cars
+	 * @param count the number of cars to index, the cars from 0 (inclusive) to
+	 *              count (exclusive)
+	 */
+	void build(double[] x, double[] y, Dimension2D[] sizes, int count) {
+		this.carCount = count;
+		int bucketCount = Integer.highestOneBit(Math.max(count, 1) * 2);
+		this.bucketMask = bucketCount - 1;
+		if (this.bucketStart.length < bucketCount + 1) {
+			this.bucketStart = new int[bucketCount + 1];
+		} else {
+			Arrays.fill(this.bucketStart, 0, bucketCount + 1, 0);
+		}
+		if (this.bucketCars.length < count) {
+			this.carCellX = new int[count];
+			this.carCellY = new int[count];
+			this.carBucket = new int[count];
+			this.bucketCars = new int[count];
+			this.found = new int[count];
+		}
+
+		this.maxCarWidth = 0;
+		this.maxCarHeight = 0;
+		this.minCellX = Integer.MAX_VALUE;
+		this.maxCellX = Integer.MIN_VALUE;
+		this.minCellY = Integer.MAX_VALUE;
+		this.maxCellY = Integer.MIN_VALUE;
+		for (int i = 0; i < count; i++) {
+			int cellX = cell(x[i]);
+			int cellY = cell(y[i]);
+			int bucket = bucket(cellX, cellY);
+			this.carCellX[i] = cellX;
+			this.carCellY[i] = cellY;
+			this.carBucket[i] = bucket;
+			this.bucketStart[bucket + 1]++;
+			this.minCellX = Math.min(this.minCellX, cellX);
+			this.maxCellX = Math.max(this.maxCellX, cellX);
+			this.minCellY = Math.min(this.minCellY, cellY);
+			this.maxCellY = Math.max(this.maxCellY, cellY);
+			this.maxCarWidth = Math.max(this.maxCarWidth, sizes[i].getWidth());
+			this.maxCarHeight = Math.max(this.maxCarHeight, sizes[i].getHeight());
+		}
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			this.bucketStart[bucket + 1] += this.bucketStart[bucket];
+		}
+		// fill from the back so that the bucket starts end up in place and the cars
+		// of a bucket stay in ascending order
+		for (int i = count - 1; i >= 0; i--) {
+			int target = --this.bucketStart[this.carBucket[i] + 1];
+			this.bucketCars[target] = i;
+		}
+		// after filling, bucketStart[b + 1] points to the start of bucket b
+		System.arraycopy(this.bucketStart, 1, this.bucketStart, 0, bucketCount);
+		this.bucketStart[bucketCount] = count;
+	}
+
+	private static int cell(double coordinate) {
+		return (int) Math.floor(coordinate / CELL_SIZE);
+	}
+
+	private int bucket(int cellX, int cellY) {
+		return (cellX * HASH_PRIME_X ^ cellY * HASH_PRIME_Y) & this.bucketMask;
+	}
+
+	/**
+	 * Finds the cars whose cell may reach into the given rectangle. The result
+	 * may contain cars just outside of the rectangle, and is sorted by index so
+	 * that the cars keep their painting order.
+	 *
+	 * @param x      the x coordinate of the upper left corner of the rectangle
+	 * @param y      the y coordinate of the upper left corner of the rectangle
+	 * @param width  the width of the rectangle
+	 * @param height the height of the rectangle
+	 * @return the number of cars found, see {@link #getFound(int)}
+	 */
+	int query(double x, double y, double width, double height) {
+		this.foundCount = 0;
+		if (this.carCount == 0) {
+			// never built or no cars
+			return 0;
+		}
+		int firstCellX = Math.max(cell(x - this.maxCarWidth), this.minCellX);
+		int lastCellX = Math.min(cell(x + width), this.maxCellX);
+		int firstCellY = Math.max(cell(y - this.maxCarHeight), this.minCellY);
+		int lastCellY = Math.min(cell(y + height), this.maxCellY);
+		// counted in long, the range of far apart cars may not fit into an int
+		long columns = (long) lastCellX - firstCellX + 1;
+		long rows = (long) lastCellY - firstCellY + 1;
+		if (columns <= 0 || rows <= 0) {
+			return 0;
+		}
+		if (columns * rows > this.bucketMask + 1) {
+			findInAllCars(firstCellX, lastCellX, firstCellY, lastCellY);
+			return this.foundCount;
+		}
+		for (int column = 0; column < columns; column++) {
+			int cellX = firstCellX + column;
+			for (int row = 0; row < rows; row++) {
+				int cellY = firstCellY + row;
+				int bucket = bucket(cellX, cellY);
+				int end = this.bucketStart[bucket + 1];
+				for (int entry = this.bucketStart[bucket]; entry < end; entry++) {
+					int car = this.bucketCars[entry];
+					// other cells may share the bucket
+					if (this.carCellX[car] == cellX && this.carCellY[car] == cellY) {
+						this.found[this.foundCount++] = car;
+					}
+				}
+			}
+		}
+		Arrays.sort(this.found, 0, this.foundCount);
+		return this.foundCount;
+	}
+
+	/**
+	 * Collects the cars in the given range of cells by checking every car, which
+	 * is cheaper than visiting more cells than there are buckets. The cars are
+	 * found in ascending order.
+	 */
+	private void findInAllCars(int firstCellX, int lastCellX, int firstCellY, int lastCellY) {
+		for (int car = 0; car < this.carCount; car++) {
+			int cellX = this.carCellX[car];
+			int cellY = this.carCellY[car];
+			if (cellX >= firstCellX && cellX <= lastCellX && cellY >= firstCellY && cellY <= lastCellY) {
+				this.found[this.foundCount++] = car;
+			}
+		}
+	}
+
+	/**
+	 * Returns a car found by the last query.
+	 *
+	 * @param i the position in the result, smaller than the number of cars found
+	 * @return the index of the car in the snapshot
+	 */
+	int getFound(int i) {
+		return this.found[i];
+	}
+}
@@ -0,0 +1,200 @@
+package de.tum.in.ase.eist.gameview;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import de.tum.in.ase.eist.Dimension2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Pre-scaled car images packed into a few large atlas pages. Every distinct
+ * combination of icon and car size is rasterized once, the first time it is
+ * drawn, so drawing a car only copies pixels and never scales them. A car
+ * whose size changes simply gets the sprite for its new size.
+ * <p>
+ * Sprites are scaled from the already decoded full-size images, so the image
+ * files are never decoded again on the JavaFX Application Thread.
+ */
+class SpriteAtlas {
+
+	private static final int PAGE_SIZE = 1024;
+
+	/**
+	 * Free space between sprites, so that smoothing does not bleed neighbouring
+	 * sprites into each other.
+	 */
+	private static final int PADDING = 1;
+
+	/**
+	 * A rasterized image on an atlas page.
+	 */
+	static final class Sprite {
+
+		private final int page;
+		private final int x;
+		private final int y;
+		private final int width;
+		private final int height;
+
+		private Sprite(int page, int x, int y, int width, int height) {
+			this.page = page;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	/**
+	 * All sprites of one icon. An icon only comes in a few sizes, so a linear
+	 * search is fine and avoids allocating a key per lookup.
+	 */
+	private static final class IconSprites {
+
+		private int count;
+		private double[] widths = new double[1];
+		private double[] heights = new double[1];
+		private Sprite[] sprites = new Sprite[1];
+
+		private Sprite find(double width, double height) {
+			for (int i = 0; i < this.count; i++) {
+				if (this.widths[i] == width && this.heights[i] == height) {
+					return this.sprites[i];
+				}
+			}
+			return null;
+		}
+
+		private void add(double width, double height, Sprite sprite) {
+			if (this.count == this.sprites.length) {
+				this.widths = Arrays.copyOf(this.widths, this.count * 2);
+				this.heights = Arrays.copyOf(this.heights, this.count * 2);
+				this.sprites = Arrays.copyOf(this.sprites, this.count * 2);
+			}
+			this.widths[this.count] = width;
+			this.heights[this.count] = height;
+			this.sprites[this.count] = sprite;
+			this.count++;
+		}
+	}
+
+	private final Function<String, Image> sourceImages;
+	private final Map<String, IconSprites> spritesByIcon = new HashMap<>();
+	private final List<WritableImage> pages = new ArrayList<>();
+
+	/**
+	 * Scratch canvas the full-size images are scaled on.
+	 */
+	private final Canvas scaler = new Canvas();
+	private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+
+	// shelf packing state of the last page
+	private int shelfX;
+	private int shelfY;
+	private int shelfHeight;
+
+	/**
+	 * Creates an empty atlas.
+	 *
+	 * @param sourceImages provides the full-size image for an icon location
+	 */
+	SpriteAtlas(Function<String, Image> sourceImages) {
+		this.sourceImages = sourceImages;
+		this.snapshotParameters.setFill(Color.TRANSPARENT);
+	}
+
+	/**
+	 * Returns the sprite of the icon in the given size, rasterizing it if it is
+	 * drawn for the first time.
+	 *
+	 * @param iconLocation the icon of the car
+	 * @param size         the size of the car
+	 * @return the sprite
+	 */
+	Sprite get(String iconLocation, Dimension2D size) {
+		IconSprites iconSprites = this.spritesByIcon.computeIfAbsent(iconLocation, icon -> new IconSprites());
+		Sprite sprite = iconSprites.find(size.getWidth(), size.getHeight());
+		if (sprite == null) {
+			sprite = rasterize(iconLocation, size);
+			iconSprites.add(size.getWidth(), size.getHeight(), sprite);
+		}
+		return sprite;
+	}
+
+	/**
+	 * Draws a sprite without scaling it.
+	 *
+	 * @param graphics the graphics context to draw on
+	 * @param sprite   the sprite to draw
+	 * @param x        the x coordinate of the upper left corner
+	 * @param y        the y coordinate of the upper left corner
+	 */
+	void draw(GraphicsContext graphics, Sprite sprite, double x, double y) {
+		graphics.drawImage(this.pages.get(sprite.page), sprite.x, sprite.y, sprite.width, sprite.height, x, y,
+				sprite.width, sprite.height);
+	}
+
+	private Sprite rasterize(String iconLocation, Dimension2D size) {
+		int width = Math.max(1, (int) Math.round(size.getWidth()));
+		int height = Math.max(1, (int) Math.round(size.getHeight()));
+		Image scaled = scale(this.sourceImages.apply(iconLocation), width, height);
+
+		reserve(width, height);
+		int page = this.pages.size() - 1;
+		this.pages.get(page).getPixelWriter().setPixels(this.shelfX, this.shelfY, width, height,
+				scaled.getPixelReader(), 0, 0);
+		Sprite sprite = new Sprite(page, this.shelfX, this.shelfY, width, height);
+		this.shelfX += width + PADDING;
+		this.shelfHeight = Math.max(this.shelfHeight, height + PADDING);
+		return sprite;
+	}
+
+	/**
+	 * Scales a decoded image to the given size with smoothing.
+	 */
+	private Image scale(Image source, int width, int height) {
+		this.scaler.setWidth(width);
+		this.scaler.setHeight(height);
+		GraphicsContext graphics = this.scaler.getGraphicsContext2D();
+		graphics.clearRect(0, 0, width, height);
+		graphics.setImageSmoothing(true);
+		graphics.drawImage(source, 0, 0, width, height);
+		return this.scaler.snapshot(this.snapshotParameters, null);
+	}
+
+	/**
+	 * Moves the packing position to a free spot for a sprite of the given size,
+	 * starting a new shelf or a new page if necessary.
+	 */
+	private void reserve(int width, int height) {
+		if (!this.pages.isEmpty() && this.shelfX + width > pageWidth()) {
+			this.shelfX = 0;
+			this.shelfY += this.shelfHeight;
+			this.shelfHeight = 0;
+		}
+		if (this.pages.isEmpty() || this.shelfY + height > pageHeight() || width > pageWidth()) {
+			// sprites larger than a page get a page of their own
+			this.pages.add(new WritableImage(Math.max(PAGE_SIZE, width), Math.max(PAGE_SIZE, height)));
+			this.shelfX = 0;
+			this.shelfY = 0;
+			this.shelfHeight = 0;
+		}
+	}
+
+	private int pageWidth() {
+		return (int) this.pages.get(this.pages.size() - 1).getWidth();
+	}
+
+	private int pageHeight() {
+		return (int) this.pages.get(this.pages.size() - 1).getHeight();
+	}
+}
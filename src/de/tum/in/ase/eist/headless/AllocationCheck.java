@@ -0,0 +1,142 @@
+package de.tum.in.ase.eist.headless;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Consumer;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.CarStore;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.SlowCar;
+import de.tum.in.ase.eist.audio.SilentAudioPlayer;
+import de.tum.in.ase.eist.broadphase.SweepAndPruneBroadPhase;
+import de.tum.in.ase.eist.broadphase.UniformGridBroadPhase;
+import de.tum.in.ase.eist.events.CollisionEventBus;
+import de.tum.in.ase.eist.events.CrashStatistics;
+
+/**
+ * Regression check that {@link GameBoard#update()} does not allocate. Every
+ * tick mode is warmed up until it is compiled and then measured with the
+ * per-thread allocation counter of the JVM. The process exits with status 1 if
+ * any mode allocates.
+ * <p>
+ * The cars drive up and down in separate columns so that no crash happens, as
+ * reporting a crash is not part of the allocation-free path. Publishing a crash
+ * on a {@link CollisionEventBus} is checked on its own.
+ */
+public final class AllocationCheck {
+
+	private static final int NUMBER_OF_CARS = 1000;
+	private static final double COLUMN_WIDTH = 60;
+	private static final double BOARD_HEIGHT = 300;
+	private static final int WARMUP_TICKS = 20_000;
+	private static final int MEASURED_TICKS = 5_000;
+	private static final int WARMUP_CRASHES = 200_000;
+	private static final int MEASURED_CRASHES = 50_000;
+
+	private AllocationCheck() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		if (!threads.isThreadAllocatedMemorySupported()) {
+			System.err.println("This JVM cannot measure allocations.");
+			System.exit(2);
+		}
+		boolean allocationFree = true;
+		allocationFree &= check(threads, "objects, player only", gameBoard -> {
+		});
+		allocationFree &= check(threads, "car store, player only", GameBoard::useCarStore);
+		allocationFree &= check(threads, "objects, uniform grid",
+				gameBoard -> gameBoard.setBroadPhase(new UniformGridBroadPhase()));
+		allocationFree &= check(threads, "car store, sweep and prune", gameBoard -> {
+			gameBoard.useCarStore();
+			gameBoard.setBroadPhase(new SweepAndPruneBroadPhase());
+		});
+		allocationFree &= check(threads, "car store, swept grid", gameBoard -> {
+			gameBoard.useCarStore();
+			gameBoard.setBroadPhase(new UniformGridBroadPhase());
+			gameBoard.setSweptCollisions(true);
+		});
+		if (CarStore.isVectorDriveSupported()) {
+			allocationFree &= check(threads, "car store, vector drive", gameBoard -> {
+				gameBoard.useCarStore();
+				gameBoard.getCarStore().setVectorDrive(true);
+			});
+		}
+		allocationFree &= checkCollisionEventBus(threads);
+		if (!allocationFree) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean check(com.sun.management.ThreadMXBean threads, String mode,
+			Consumer<GameBoard> configuration) {
+		GameBoard gameBoard = createCrashFreeBoard();
+		configuration.accept(gameBoard);
+		for (int i = 0; i < WARMUP_TICKS; i++) {
+			gameBoard.update();
+		}
+		// the counter itself may allocate, measure it without any ticks first
+		long overhead = threads.getCurrentThreadAllocatedBytes();
+		overhead = threads.getCurrentThreadAllocatedBytes() - overhead;
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < MEASURED_TICKS; i++) {
+			gameBoard.update();
+		}
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before - overhead;
+
+		boolean allocationFree = allocated <= 0;
+		System.out.printf("%-28s %s (%d bytes in %d ticks)%n", mode, allocationFree ? "OK" : "ALLOCATES",
+				Math.max(allocated, 0), MEASURED_TICKS);
+		return allocationFree;
+	}
+
+	private static boolean checkCollisionEventBus(com.sun.management.ThreadMXBean threads) {
+		GameBoard gameBoard = createCrashFreeBoard();
+		Car player = gameBoard.getPlayerCar();
+		Car other = gameBoard.getCars().get(0);
+		CollisionEventBus collisionEvents = new CollisionEventBus();
+		collisionEvents.subscribe("crash-statistics", new CrashStatistics());
+		for (int i = 0; i < WARMUP_CRASHES; i++) {
+			collisionEvents.crashed(gameBoard, player, other, player, 0.5);
+		}
+		long overhead = threads.getCurrentThreadAllocatedBytes();
+		overhead = threads.getCurrentThreadAllocatedBytes() - overhead;
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < MEASURED_CRASHES; i++) {
+			collisionEvents.crashed(gameBoard, player, other, player, 0.5);
+		}
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before - overhead;
+
+		boolean allocationFree = allocated <= 0;
+		System.out.printf("%-28s %s (%d bytes in %d crashes)%n", "collision event bus",
+				allocationFree ? "OK" : "ALLOCATES", Math.max(allocated, 0), MEASURED_CRASHES);
+		return allocationFree;
+	}
+
+	private static GameBoard createCrashFreeBoard() {
+		Dimension2D size = new Dimension2D(COLUMN_WIDTH * (NUMBER_OF_CARS + 1), BOARD_HEIGHT);
+		GameBoard gameBoard = new GameBoard(size);
+		gameBoard.setAudioPlayer(new SilentAudioPlayer());
+		List<Car> cars = gameBoard.getCars();
+		cars.clear();
+		placeInColumn(gameBoard.getPlayerCar(), 0);
+		for (int i = 1; i <= NUMBER_OF_CARS; i++) {
+			Car car = new SlowCar(size);
+			placeInColumn(car, i);
+			cars.add(car);
+		}
+		return gameBoard;
+	}
+
+	private static void placeInColumn(Car car, int column) {
+		car.setPosition(column * COLUMN_WIDTH, car.getY() % (BOARD_HEIGHT - car.getSize().getHeight()));
+		car.setDirection(0);
+	}
+}
@@ -0,0 +1,106 @@
+package de.tum.in.ase.eist.headless;
+
+import java.util.List;
+import java.util.Locale;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.SlowCar;
+import de.tum.in.ase.eist.broadphase.AllPairsBroadPhase;
+import de.tum.in.ase.eist.broadphase.BoundingBoxes;
+import de.tum.in.ase.eist.broadphase.BroadPhase;
+import de.tum.in.ase.eist.broadphase.SweepAndPruneBroadPhase;
+import de.tum.in.ase.eist.broadphase.UniformGridBroadPhase;
+
+/**
+ * Compares the broad-phase strategies on the same workload. A single game board
+ * is simulated headlessly, and on every tick each strategy searches the very
+ * same car boxes. The time per strategy and the number of pairs found are
+ * printed, and a strategy reporting a different number of pairs is flagged.
+ * <p>
+ * Usage: {@code BroadPhaseComparison [cars] [ticks] [boardWidth] [boardHeight]}.
+ * The quadratic all-pairs baseline is skipped for more than
+ * {@value #MAX_CARS_FOR_ALL_PAIRS} cars.
+ */
+public final class BroadPhaseComparison {
+
+	private static final int DEFAULT_CARS = 10_000;
+	private static final int DEFAULT_TICKS = 100;
+	private static final int DEFAULT_BOARD_WIDTH = 10_000;
+	private static final int DEFAULT_BOARD_HEIGHT = 6_000;
+	private static final int MAX_CARS_FOR_ALL_PAIRS = 20_000;
+
+	private BroadPhaseComparison() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) {
+		int numberOfCars = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CARS;
+		int ticks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+		double width = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_BOARD_WIDTH;
+		double height = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_BOARD_HEIGHT;
+
+		GameBoard gameBoard = new GameBoard(new Dimension2D(width, height));
+		List<Car> cars = gameBoard.getCars();
+		cars.clear();
+		for (int i = 0; i < numberOfCars; i++) {
+			cars.add(new SlowCar(gameBoard.getSize()));
+		}
+		gameBoard.useCarStore();
+		HeadlessEngine engine = new HeadlessEngine(gameBoard);
+
+		String[] names = { "uniform grid", "sweep and prune (x)", "sweep and prune (y)", "all pairs" };
+		BroadPhase[] strategies = { new UniformGridBroadPhase(), new SweepAndPruneBroadPhase(),
+				new SweepAndPruneBroadPhase(SweepAndPruneBroadPhase.Axis.Y),
+				numberOfCars <= MAX_CARS_FOR_ALL_PAIRS ? new AllPairsBroadPhase() : null };
+		long[] nanos = new long[strategies.length];
+		long[] pairs = new long[strategies.length];
+		boolean[] mismatch = new boolean[strategies.length];
+
+		BoundingBoxes boxes = new BoundingBoxes();
+		long[] pairCount = new long[1];
+		for (int tick = 0; tick < ticks; tick++) {
+			engine.run(1);
+			fillBoxes(gameBoard, boxes);
+			long expectedPairs = -1;
+			for (int s = 0; s < strategies.length; s++) {
+				if (strategies[s] == null) {
+					continue;
+				}
+				pairCount[0] = 0;
+				long start = System.nanoTime();
+				strategies[s].findPairs(boxes, (first, second) -> pairCount[0]++);
+				nanos[s] += System.nanoTime() - start;
+				pairs[s] += pairCount[0];
+				if (expectedPairs < 0) {
+					expectedPairs = pairCount[0];
+				} else if (expectedPairs != pairCount[0]) {
+					mismatch[s] = true;
+				}
+			}
+		}
+
+		System.out.printf(Locale.ROOT, "%d cars on %.0fx%.0f, %d ticks%n", numberOfCars, width, height, ticks);
+		for (int s = 0; s < strategies.length; s++) {
+			if (strategies[s] == null) {
+				continue;
+			}
+			System.out.printf(Locale.ROOT, "%-20s %10.3f ms/tick %12d pairs%s%n", names[s], nanos[s] / 1e6 / ticks,
+					pairs[s], mismatch[s] ? "  MISMATCH" : "");
+		}
+	}
+
+	private static void fillBoxes(GameBoard gameBoard, BoundingBoxes boxes) {
+		List<Car> cars = gameBoard.getCars();
+		boxes.reset(cars.size() + 1);
+		setBox(boxes, 0, gameBoard.getPlayerCar());
+		for (int i = 0; i < cars.size(); i++) {
+			setBox(boxes, i + 1, cars.get(i));
+		}
+	}
+
+	private static void setBox(BoundingBoxes boxes, int index, Car car) {
+		boxes.set(index, car.getX(), car.getY(), car.getSize().getWidth(), car.getSize().getHeight());
+	}
+}
@@ -0,0 +1,97 @@
+package de.tum.in.ase.eist.headless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.GameBoardCheckpoint;
+import de.tum.in.ase.eist.SlowCar;
+
+/**
+ * Saves a board with a million cars, loads it again and checks that the loaded
+ * board is identical. Prints how long saving and loading took. Then the
+ * checkpoint is loaded a second time and both restored boards are reset to the
+ * same seed, which must make them identical again. The process exits with
+ * status 1 on any difference.
+ * <p>
+ * Usage: {@code CheckpointCheck [numberOfCars]}
+ */
+public final class CheckpointCheck {
+
+	private static final int DEFAULT_NUMBER_OF_CARS = 1_000_000;
+	private static final int NUMBER_OF_TICKS = 10;
+	private static final Dimension2D BOARD_SIZE = new Dimension2D(200_000, 100_000);
+	private static final double NANOS_PER_MILLI = 1e6;
+	private static final long RESET_SEED = 7;
+
+	private CheckpointCheck() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) throws IOException {
+		int numberOfCars = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_CARS;
+		GameBoard original = new GameBoard(BOARD_SIZE, 1L);
+		List<Car> cars = original.getCars();
+		cars.clear();
+		for (int i = 0; i < numberOfCars; i++) {
+			cars.add(i % 2 == 0 ? new SlowCar(BOARD_SIZE) : new FastCar(BOARD_SIZE));
+		}
+		HeadlessEngine engine = new HeadlessEngine(original);
+		engine.run(NUMBER_OF_TICKS);
+		cars.get(0).crunch();
+
+		Path path = Files.createTempFile("bumpers", ".checkpoint");
+		try {
+			long saveStart = System.nanoTime();
+			GameBoardCheckpoint.save(original, path);
+			long loadStart = System.nanoTime();
+			GameBoard loaded = GameBoardCheckpoint.load(path);
+			long loadEnd = System.nanoTime();
+
+			boolean identical = sameState(original, loaded);
+			System.out.printf(Locale.ROOT, "%d cars, %d bytes, saved in %.1f ms, loaded in %.1f ms: %s%n",
+					numberOfCars + 1, Files.size(path), (loadStart - saveStart) / NANOS_PER_MILLI,
+					(loadEnd - loadStart) / NANOS_PER_MILLI, identical ? "OK" : "DIFFERENT");
+
+			GameBoard reloaded = GameBoardCheckpoint.load(path);
+			loaded.reset(RESET_SEED);
+			reloaded.reset(RESET_SEED);
+			boolean resetIdentical = sameState(loaded, reloaded);
+			System.out.printf(Locale.ROOT, "restored boards reset to seed %d: %s%n", RESET_SEED,
+					resetIdentical ? "OK" : "DIFFERENT");
+			if (!identical || !resetIdentical) {
+				System.exit(1);
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	private static boolean sameState(GameBoard first, GameBoard second) {
+		if (!first.getSize().equals(second.getSize()) || first.isRunning() != second.isRunning()
+				|| first.getTick() != second.getTick() || first.getCars().size() != second.getCars().size()
+				|| !sameState(first.getPlayerCar(), second.getPlayerCar())) {
+			return false;
+		}
+		for (int i = 0; i < first.getCars().size(); i++) {
+			if (!sameState(first.getCars().get(i), second.getCars().get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean sameState(Car first, Car second) {
+		return first.getClass() == second.getClass() && first.getX() == second.getX() && first.getY() == second.getY()
+				&& first.getSize().equals(second.getSize()) && first.getDirection() == second.getDirection()
+				&& first.getSpeed() == second.getSpeed() && first.getMinSpeed() == second.getMinSpeed()
+				&& first.getMaxSpeed() == second.getMaxSpeed() && first.isCrunched() == second.isCrunched()
+				&& first.getIconLocation().equals(second.getIconLocation());
+	}
+}
@@ -0,0 +1,127 @@
+package de.tum.in.ase.eist.headless;
+
+import java.util.List;
+import java.util.Locale;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.CarStore;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.Heading;
+import de.tum.in.ase.eist.SlowCar;
+
+/**
+ * Checks that driving with the precomputed {@link Heading} tables ends up at the
+ * same positions as computing the trigonometry on every tick. A game board is
+ * simulated headlessly, and next to it every car is driven with the original
+ * {@code Math.sin(Math.toRadians(direction))} formula. The process exits with
+ * status 1 if any coordinate deviates by more than {@value #TOLERANCE} pixels.
+ * <p>
+ * It also drives cars heading straight down while they are outside of the left
+ * or right border, which must keep their direction a valid table index.
+ */
+public final class HeadingCheck {
+
+	/**
+	 * The maximum allowed deviation in pixels.
+	 */
+	private static final double TOLERANCE = 1e-9;
+
+	private static final int NUMBER_OF_TICKS = 10_000;
+	private static final Dimension2D BOARD_SIZE = new Dimension2D(500, 300);
+
+	private HeadingCheck() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) {
+		if (!checkStraightDownAtBorders()) {
+			System.exit(1);
+		}
+		GameBoard gameBoard = new GameBoard(BOARD_SIZE);
+		HeadlessEngine engine = new HeadlessEngine(gameBoard);
+		List<Car> cars = gameBoard.getCars();
+
+		double[][] reference = new double[cars.size()][];
+		for (int i = 0; i < cars.size(); i++) {
+			Car car = cars.get(i);
+			reference[i] = new double[] { car.getX(), car.getY(), car.getDirection() };
+		}
+
+		double maxDeviation = 0;
+		for (int tick = 0; tick < NUMBER_OF_TICKS; tick++) {
+			engine.run(1);
+			for (int i = 0; i < cars.size(); i++) {
+				Car car = cars.get(i);
+				driveWithTrigonometry(reference[i], car);
+				maxDeviation = Math.max(maxDeviation, Math.abs(reference[i][0] - car.getX()));
+				maxDeviation = Math.max(maxDeviation, Math.abs(reference[i][1] - car.getY()));
+			}
+		}
+
+		boolean withinTolerance = maxDeviation <= TOLERANCE;
+		System.out.printf(Locale.ROOT, "max deviation after %d ticks: %g px (tolerance %g px) %s%n",
+				NUMBER_OF_TICKS, maxDeviation, TOLERANCE, withinTolerance ? "OK" : "FAILED");
+		if (!withinTolerance) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Drives a car heading straight down (direction 0) from outside of either
+	 * horizontal border, once with its own fields and once in a
+	 * {@link CarStore}.
+	 */
+	private static boolean checkStraightDownAtBorders() {
+		boolean valid = true;
+		for (double x : new double[] { -1, BOARD_SIZE.getWidth() }) {
+			for (boolean useCarStore : new boolean[] { false, true }) {
+				Car car = new SlowCar(BOARD_SIZE);
+				if (useCarStore) {
+					car.attachTo(new CarStore());
+				}
+				car.setPosition(x, 0);
+				car.setDirection(0);
+				car.drive(BOARD_SIZE);
+				car.drive(BOARD_SIZE);
+				valid &= car.getDirection() >= 0 && car.getDirection() < Heading.NUMBER_OF_HEADINGS;
+			}
+		}
+		System.out.println("straight down at the borders " + (valid ? "OK" : "FAILED"));
+		return valid;
+	}
+
+	/**
+	 * The original {@link Car#drive(Dimension2D)} on a reference state of x, y and
+	 * direction. Speed, size and crunched state are taken from the car, they do
+	 * not change while driving.
+	 */
+	private static void driveWithTrigonometry(double[] state, Car car) {
+		if (car.isCrunched()) {
+			return;
+		}
+		int direction = (int) state[2];
+		double newX = state[0] + car.getSpeed() * Math.sin(Math.toRadians(direction));
+		double newY = state[1] + car.getSpeed() * Math.cos(Math.toRadians(direction));
+		double width = car.getSize().getWidth();
+		double height = car.getSize().getHeight();
+
+		if (newX < 0) {
+			newX = -newX;
+			direction = 360 - direction;
+		} else if (newX + width > BOARD_SIZE.getWidth()) {
+			newX = 2 * BOARD_SIZE.getWidth() - newX - 2 * width;
+			direction = 360 - direction;
+		}
+		if (newY < 0) {
+			newY = -newY;
+			direction = Math.floorMod(180 - direction, 360);
+		} else if (newY + height > BOARD_SIZE.getHeight()) {
+			newY = 2 * BOARD_SIZE.getHeight() - newY - 2 * height;
+			direction = Math.floorMod(180 - direction, 360);
+		}
+		state[0] = newX;
+		state[1] = newY;
+		state[2] = direction;
+	}
+}
@@ -0,0 +1,60 @@
+package de.tum.in.ase.eist.headless;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.ScenarioLoader;
+import de.tum.in.ase.eist.events.CollisionEventBus;
+import de.tum.in.ase.eist.events.CrashLogger;
+import de.tum.in.ase.eist.trace.TraceWriter;
+
+/**
+ * Runs a game board without a display and prints the achieved ticks per second.
+ * <p>
+ * Usage: {@code HeadlessBumpers [ticks] [tickPeriodMillis] [traceFile]}, a tick
+ * period of 0 runs as fast as possible. If a trace file is given, the state of
+ * all cars is traced into it.
+ * <p>
+ * The board is built from the scenario file in the system property
+ * {@value #SCENARIO_PROPERTY} if it is set, see {@link ScenarioLoader}.
+ */
+public final class HeadlessBumpers {
+
+	private static final int DEFAULT_TICKS = 1000;
+	private static final int DEFAULT_TICK_PERIOD = 0;
+	private static final Dimension2D DEFAULT_SIZE = new Dimension2D(500, 300);
+	private static final String SCENARIO_PROPERTY = "bumpers.scenario";
+
+	private HeadlessBumpers() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) throws IOException {
+		long ticks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+		long tickPeriod = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TICK_PERIOD;
+
+		String scenario = System.getProperty(SCENARIO_PROPERTY);
+		GameBoard gameBoard = scenario != null ? ScenarioLoader.load(Path.of(scenario)) : new GameBoard(DEFAULT_SIZE);
+		CollisionEventBus collisionEvents = new CollisionEventBus();
+		collisionEvents.subscribe("crash-logger", new CrashLogger());
+		gameBoard.setCollisionListener(collisionEvents);
+		TraceWriter traceWriter = null;
+		if (args.length > 2) {
+			traceWriter = new TraceWriter(Path.of(args[2]));
+			gameBoard.addTickListener(traceWriter);
+		}
+		HeadlessEngine engine = new HeadlessEngine(gameBoard, tickPeriod, TimeUnit.MILLISECONDS);
+		engine.run(ticks);
+		if (traceWriter != null) {
+			traceWriter.close();
+		}
+		collisionEvents.close();
+
+		System.out.printf(Locale.ROOT, "%d ticks in %.3f s (%.1f ticks/s)%n", engine.getTicks(),
+				engine.getElapsedNanos() / 1e9, engine.getTicksPerSecond());
+	}
+}
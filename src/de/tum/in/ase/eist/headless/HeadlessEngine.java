@@ -0,0 +1,165 @@
+package de.tum.in.ase.eist.headless;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.audio.SilentAudioPlayer;
+
+/**
+ * Drives a {@link GameBoard} without any JavaFX dependency by calling
+ * {@link GameBoard#update()} once per tick. The engine either advances the
+ * board with a fixed timestep or, if the tick period is zero, as fast as
+ * possible, and measures the achieved ticks per second.
+ */
+public class HeadlessEngine {
+
+	/**
+	 * Tick period that makes the engine run as fast as possible.
+	 */
+	public static final long UNTHROTTLED = 0;
+
+	private final GameBoard gameBoard;
+
+	/**
+	 * The fixed timestep in nanoseconds, {@link #UNTHROTTLED} for no throttling.
+	 */
+	private final long tickPeriodNanos;
+
+	private long ticks;
+	private long elapsedNanos;
+
+	/**
+	 * Creates an engine that runs as fast as possible.
+	 *
+	 * @param gameBoard the game board to drive
+	 */
+	public HeadlessEngine(GameBoard gameBoard) {
+		this(gameBoard, UNTHROTTLED, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Creates an engine that advances the game board once per tick period. If the
+	 * game board has no audio player yet, a {@link SilentAudioPlayer} is used.
+	 *
+	 * @param gameBoard  the game board to drive
+	 * @param tickPeriod the fixed timestep, 0 to run as fast as possible
+	 * @param unit       the time unit of the tick period
+	 * @throws IllegalArgumentException if the tick period is negative
+	 */
+	public HeadlessEngine(GameBoard gameBoard, long tickPeriod, TimeUnit unit) {
+		if (tickPeriod < 0) {
+			throw new IllegalArgumentException("The tick period must not be negative.");
+		}
+		this.gameBoard = gameBoard;
+		this.tickPeriodNanos = unit.toNanos(tickPeriod);
+		if (gameBoard.getAudioPlayer() == null) {
+			gameBoard.setAudioPlayer(new SilentAudioPlayer());
+		}
+	}
+
+	public GameBoard getGameBoard() {
+		return this.gameBoard;
+	}
+
+	/**
+	 * Runs the given number of ticks. With a fixed timestep, ticks that fall
+	 * behind the schedule are caught up immediately instead of being dropped, so
+	 * the simulated time always equals ticks times tick period.
+	 *
+	 * @param numberOfTicks the number of ticks to run
+	 */
+	public void run(long numberOfTicks) {
+		long start = System.nanoTime();
+		long nextTick = start;
+		for (long i = 0; i < numberOfTicks; i++) {
+			if (this.tickPeriodNanos != UNTHROTTLED) {
+				waitUntil(nextTick);
+				nextTick += this.tickPeriodNanos;
+			}
+			tick();
+		}
+		this.elapsedNanos += System.nanoTime() - start;
+	}
+
+	/**
+	 * Runs ticks until the condition holds after a tick, but at most the given
+	 * number of ticks.
+	 *
+	 * @param maxTicks  the maximum number of ticks to run
+	 * @param condition checked after every tick
+	 * @return the number of ticks run
+	 */
+	public long runUntil(long maxTicks, Predicate<GameBoard> condition) {
+		long start = System.nanoTime();
+		long nextTick = start;
+		long i = 0;
+		while (i < maxTicks) {
+			if (this.tickPeriodNanos != UNTHROTTLED) {
+				waitUntil(nextTick);
+				nextTick += this.tickPeriodNanos;
+			}
+			tick();
+			i++;
+			if (condition.test(this.gameBoard)) {
+				break;
+			}
+		}
+		this.elapsedNanos += System.nanoTime() - start;
+		return i;
+	}
+
+	/**
+	 * Runs ticks until the given wall clock duration has passed.
+	 *
+	 * @param duration the duration to run for
+	 * @param unit     the time unit of the duration
+	 */
+	public void runFor(long duration, TimeUnit unit) {
+		long start = System.nanoTime();
+		long end = start + unit.toNanos(duration);
+		long nextTick = start;
+		while (System.nanoTime() < end) {
+			if (this.tickPeriodNanos != UNTHROTTLED) {
+				waitUntil(nextTick);
+				nextTick += this.tickPeriodNanos;
+			}
+			tick();
+		}
+		this.elapsedNanos += System.nanoTime() - start;
+	}
+
+	private void tick() {
+		this.gameBoard.update();
+		this.ticks++;
+	}
+
+	private static void waitUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * Returns the average number of ticks per second over all runs of this
+	 * engine.
+	 *
+	 * @return the measured ticks per second, 0 if nothing has run yet
+	 */
+	public double getTicksPerSecond() {
+		if (this.elapsedNanos == 0) {
+			return 0;
+		}
+		return this.ticks * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+}
@@ -0,0 +1,55 @@
+package de.tum.in.ase.eist.headless;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.InputLog;
+
+/**
+ * Replays a recorded game headlessly, as fast as possible. The game board is
+ * recreated from the seed and size stored in the input log, and every input is
+ * applied at the tick it was recorded at, so the replay is identical to the
+ * original game.
+ * <p>
+ * Usage: {@code HeadlessReplay <inputLog> [ticks]}. Without a number of ticks,
+ * the replay ends with the tick of the last input.
+ */
+public final class HeadlessReplay {
+
+	private HeadlessReplay() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: HeadlessReplay <inputLog> [ticks]");
+			System.exit(2);
+		}
+		InputLog inputLog = InputLog.load(Path.of(args[0]));
+		long lastInputTick = inputLog.size() == 0 ? 0 : inputLog.getTick(inputLog.size() - 1) + 1;
+		long ticks = args.length > 1 ? Long.parseLong(args[1]) : lastInputTick;
+
+		GameBoard gameBoard = replay(inputLog);
+		HeadlessEngine engine = new HeadlessEngine(gameBoard);
+		engine.run(ticks);
+
+		System.out.printf(Locale.ROOT, "replayed %d inputs over %d ticks in %.3f s (%.1f ticks/s)%n", inputLog.size(),
+				engine.getTicks(), engine.getElapsedNanos() / 1e9, engine.getTicksPerSecond());
+		System.out.printf(Locale.ROOT, "player car at %s, heading %d%n", gameBoard.getPlayerCar().getPosition(),
+				gameBoard.getPlayerCar().getDirection());
+	}
+
+	/**
+	 * Creates a game board that replays the given log from its first tick.
+	 *
+	 * @param inputLog the recorded game
+	 * @return a new game board with the seed and size of the log
+	 */
+	public static GameBoard replay(InputLog inputLog) {
+		GameBoard gameBoard = new GameBoard(inputLog.getBoardSize(), inputLog.getSeed());
+		gameBoard.replay(inputLog);
+		return gameBoard;
+	}
+}
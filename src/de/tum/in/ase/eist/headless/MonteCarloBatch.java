@@ -0,0 +1,227 @@
+package de.tum.in.ase.eist.headless;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.CollisionListener;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.ScenarioLoader;
+import de.tum.in.ase.eist.SlowCar;
+
+/**
+ * Runs many independent games in parallel, every scenario once per seed, and
+ * prints aggregate statistics per scenario: crashes per game, the distribution
+ * of the winners and the ticks per second. Every game runs for the given number
+ * of ticks or until all cars except the player car are crunched.
+ * <p>
+ * Usage: {@code MonteCarloBatch <seeds> <ticks> [scenarioFile...]}, without
+ * scenario files the default game board is used. The system properties
+ * {@value #THREADS_PROPERTY} (default: all cores), {@value #FIRST_SEED_PROPERTY}
+ * (default: 0) and {@value #RESULTS_PROPERTY} (a CSV file the statistics are
+ * also written to) configure the batch.
+ */
+public final class MonteCarloBatch {
+
+	private static final String THREADS_PROPERTY = "bumpers.threads";
+	private static final String FIRST_SEED_PROPERTY = "bumpers.firstSeed";
+	private static final String RESULTS_PROPERTY = "bumpers.batchResults";
+
+	private static final String DEFAULT_SCENARIO = "default";
+	private static final Dimension2D DEFAULT_SIZE = new Dimension2D(500, 300);
+
+	/**
+	 * Games waiting per thread. When the queue is full, the submitting thread runs
+	 * games itself, so that thousands of games never wait in memory at once.
+	 */
+	private static final int QUEUED_GAMES_PER_THREAD = 4;
+	private static final double PERCENT = 100.0;
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/**
+	 * Counts the crashes and winners of one game.
+	 */
+	private static final class GameResult implements CollisionListener {
+
+		private long crashes;
+		private long playerWins;
+		private long slowCarWins;
+		private long fastCarWins;
+		private long ticks;
+		private long nanos;
+		private boolean allCrunched;
+
+		@Override
+		public void crashed(GameBoard gameBoard, Car car1, Car car2, Car winner, double impactTime) {
+			this.crashes++;
+			if (winner == gameBoard.getPlayerCar()) {
+				this.playerWins++;
+			} else if (winner instanceof FastCar) {
+				this.fastCarWins++;
+			} else if (winner instanceof SlowCar) {
+				this.slowCarWins++;
+			}
+		}
+	}
+
+	/**
+	 * The aggregate of all games of one scenario. Games finish on different
+	 * threads, so adding is synchronized.
+	 */
+	private static final class ScenarioStatistics {
+
+		private final String scenario;
+		private long games;
+		private long failedGames;
+		private long finishedGames;
+		private long crashes;
+		private long minCrashes = Long.MAX_VALUE;
+		private long maxCrashes;
+		private long playerWins;
+		private long slowCarWins;
+		private long fastCarWins;
+		private long ticks;
+		private long nanos;
+
+		private ScenarioStatistics(String scenario) {
+			this.scenario = scenario;
+		}
+
+		private synchronized void add(GameResult result) {
+			this.games++;
+			if (result.allCrunched) {
+				this.finishedGames++;
+			}
+			this.crashes += result.crashes;
+			this.minCrashes = Math.min(this.minCrashes, result.crashes);
+			this.maxCrashes = Math.max(this.maxCrashes, result.crashes);
+			this.playerWins += result.playerWins;
+			this.slowCarWins += result.slowCarWins;
+			this.fastCarWins += result.fastCarWins;
+			this.ticks += result.ticks;
+			this.nanos += result.nanos;
+		}
+
+		private synchronized void addFailure() {
+			this.failedGames++;
+		}
+
+		private double share(long wins) {
+			return this.crashes == 0 ? 0 : PERCENT * wins / this.crashes;
+		}
+
+		private double ticksPerSecond() {
+			return this.nanos == 0 ? 0 : this.ticks * NANOS_PER_SECOND / this.nanos;
+		}
+	}
+
+	private MonteCarloBatch() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length < 2) {
+			System.err.println("Usage: MonteCarloBatch <seeds> <ticks> [scenarioFile...]");
+			System.exit(2);
+		}
+		int seeds = Integer.parseInt(args[0]);
+		long ticks = Long.parseLong(args[1]);
+		List<String> scenarios = new ArrayList<>(List.of(args).subList(2, args.length));
+		if (scenarios.isEmpty()) {
+			scenarios.add(DEFAULT_SCENARIO);
+		}
+		int threads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+		long firstSeed = Long.getLong(FIRST_SEED_PROPERTY, 0L);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(threads * QUEUED_GAMES_PER_THREAD), new ThreadPoolExecutor.CallerRunsPolicy());
+		List<ScenarioStatistics> statistics = new ArrayList<>();
+		long start = System.nanoTime();
+		for (String scenario : scenarios) {
+			ScenarioStatistics scenarioStatistics = new ScenarioStatistics(scenario);
+			statistics.add(scenarioStatistics);
+			for (long seed = firstSeed; seed < firstSeed + seeds; seed++) {
+				long gameSeed = seed;
+				executor.execute(() -> runGame(scenarioStatistics, gameSeed, ticks));
+			}
+		}
+		executor.shutdown();
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		long wallNanos = System.nanoTime() - start;
+
+		print(statistics, threads, wallNanos);
+		String resultsFile = System.getProperty(RESULTS_PROPERTY);
+		if (resultsFile != null) {
+			writeCsv(statistics, Path.of(resultsFile));
+		}
+	}
+
+	private static void runGame(ScenarioStatistics statistics, long seed, long maxTicks) {
+		try {
+			GameBoard gameBoard = statistics.scenario.equals(DEFAULT_SCENARIO) ? new GameBoard(DEFAULT_SIZE, seed)
+					: ScenarioLoader.load(Path.of(statistics.scenario), seed);
+			GameResult result = new GameResult();
+			gameBoard.setCollisionListener(result);
+			HeadlessEngine engine = new HeadlessEngine(gameBoard);
+			result.ticks = engine.runUntil(maxTicks, MonteCarloBatch::allCarsCrunched);
+			result.nanos = engine.getElapsedNanos();
+			result.allCrunched = allCarsCrunched(gameBoard);
+			statistics.add(result);
+		} catch (IOException | RuntimeException e) {
+			statistics.addFailure();
+			System.err.println("Game " + statistics.scenario + " with seed " + seed + " failed: " + e);
+		}
+	}
+
+	private static boolean allCarsCrunched(GameBoard gameBoard) {
+		List<Car> cars = gameBoard.getCars();
+		for (int i = 0; i < cars.size(); i++) {
+			if (!cars.get(i).isCrunched()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void print(List<ScenarioStatistics> statistics, int threads, long wallNanos) {
+		long totalTicks = 0;
+		System.out.printf(Locale.ROOT, "%-24s %6s %6s %6s %10s %6s %6s %7s %7s %7s %12s%n", "scenario", "games", "failed",
+				"ended", "crashes", "min", "max", "player", "slow", "fast", "ticks/s");
+		for (ScenarioStatistics scenario : statistics) {
+			double meanCrashes = scenario.games == 0 ? 0 : (double) scenario.crashes / scenario.games;
+			System.out.printf(Locale.ROOT, "%-24s %6d %6d %6d %10.1f %6d %6d %6.1f%% %6.1f%% %6.1f%% %12.0f%n",
+					scenario.scenario, scenario.games, scenario.failedGames, scenario.finishedGames, meanCrashes,
+					scenario.games == 0 ? 0 : scenario.minCrashes, scenario.maxCrashes,
+					scenario.share(scenario.playerWins), scenario.share(scenario.slowCarWins),
+					scenario.share(scenario.fastCarWins), scenario.ticksPerSecond());
+			totalTicks += scenario.ticks;
+		}
+		System.out.printf(Locale.ROOT, "%d ticks on %d threads in %.3f s (%.0f ticks/s overall)%n", totalTicks,
+				threads, wallNanos / NANOS_PER_SECOND, totalTicks * NANOS_PER_SECOND / wallNanos);
+	}
+
+	private static void writeCsv(List<ScenarioStatistics> statistics, Path file) throws IOException {
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+			writer.println("scenario,games,failedGames,endedGames,crashes,minCrashes,maxCrashes,playerWins,"
+					+ "slowCarWins,fastCarWins,ticks,nanos,ticksPerSecond");
+			for (ScenarioStatistics scenario : statistics) {
+				writer.printf(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%.1f%n", scenario.scenario,
+						scenario.games, scenario.failedGames, scenario.finishedGames, scenario.crashes,
+						scenario.games == 0 ? 0 : scenario.minCrashes, scenario.maxCrashes, scenario.playerWins,
+						scenario.slowCarWins, scenario.fastCarWins, scenario.ticks, scenario.nanos,
+						scenario.ticksPerSecond());
+			}
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package de.tum.in.ase.eist.headless;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.SlowCar;
+import de.tum.in.ase.eist.broadphase.UniformGridBroadPhase;
+
+/**
+ * Checks that a parallel run ends with exactly the same board and reports
+ * exactly the same crashes in the same order as a sequential run. Two copies of
+ * the same board are simulated, one sequentially and one on the common
+ * {@link ForkJoinPool}. The process exits with status 1 on any difference.
+ */
+public final class ParallelCheck {
+
+	private static final int NUMBER_OF_CARS = 50_000;
+	private static final int NUMBER_OF_TICKS = 100;
+	private static final Dimension2D BOARD_SIZE = new Dimension2D(20_000, 12_000);
+
+	private ParallelCheck() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) {
+		boolean identical = true;
+		for (boolean useCarStore : new boolean[] { false, true }) {
+			for (boolean allPairs : new boolean[] { false, true }) {
+				identical &= check(useCarStore, allPairs);
+			}
+		}
+		if (!identical) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean check(boolean useCarStore, boolean allPairs) {
+		GameBoard sequential = new GameBoard(BOARD_SIZE);
+		List<Car> cars = sequential.getCars();
+		cars.clear();
+		for (int i = 0; i < NUMBER_OF_CARS; i++) {
+			cars.add(i % 2 == 0 ? new SlowCar(BOARD_SIZE) : new FastCar(BOARD_SIZE));
+		}
+		GameBoard parallel = copyOf(sequential);
+		parallel.setForkJoinPool(ForkJoinPool.commonPool());
+		for (GameBoard gameBoard : List.of(sequential, parallel)) {
+			if (useCarStore) {
+				gameBoard.useCarStore();
+			}
+			if (allPairs) {
+				gameBoard.setBroadPhase(new UniformGridBroadPhase());
+			}
+		}
+
+		String sequentialCrashes = run(sequential);
+		String parallelCrashes = run(parallel);
+		boolean identical = sequentialCrashes.equals(parallelCrashes) && sameState(sequential, parallel);
+
+		System.out.printf("%-10s %-12s %s%n", useCarStore ? "car store" : "objects", allPairs ? "all pairs" : "player only",
+				identical ? "OK" : "DIFFERENT");
+		return identical;
+	}
+
+	/**
+	 * Runs the board and returns the tick, winner and impact time of every crash
+	 * in the order they were reported.
+	 */
+	private static String run(GameBoard gameBoard) {
+		StringBuilder crashes = new StringBuilder();
+		gameBoard.setCollisionListener((board, car1, car2, winner, impactTime) -> crashes.append(board.getTick())
+				.append(' ').append(winner == board.getPlayerCar() ? "player" : winner.getClass().getSimpleName())
+				.append(' ').append(winner.getX()).append(' ').append(winner.getY()).append(' ').append(impactTime)
+				.append('\n'));
+		new HeadlessEngine(gameBoard).run(NUMBER_OF_TICKS);
+		return crashes.toString();
+	}
+
+	private static GameBoard copyOf(GameBoard original) {
+		GameBoard copy = new GameBoard(original.getSize());
+		copyState(original.getPlayerCar(), copy.getPlayerCar());
+		List<Car> cars = copy.getCars();
+		cars.clear();
+		for (Car car : original.getCars()) {
+			Car carCopy = car instanceof FastCar ? new FastCar(original.getSize()) : new SlowCar(original.getSize());
+			copyState(car, carCopy);
+			cars.add(carCopy);
+		}
+		return copy;
+	}
+
+	private static void copyState(Car from, Car to) {
+		to.setPosition(from.getX(), from.getY());
+		to.setDirection(from.getDirection());
+		to.setSpeed(from.getSpeed());
+		to.setSize(from.getSize());
+	}
+
+	private static boolean sameState(GameBoard first, GameBoard second) {
+		if (!sameState(first.getPlayerCar(), second.getPlayerCar())) {
+			return false;
+		}
+		for (int i = 0; i < first.getCars().size(); i++) {
+			if (!sameState(first.getCars().get(i), second.getCars().get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean sameState(Car first, Car second) {
+		return first.getX() == second.getX() && first.getY() == second.getY()
+				&& first.getDirection() == second.getDirection() && first.getSpeed() == second.getSpeed()
+				&& first.isCrunched() == second.isCrunched();
+	}
+}
@@ -0,0 +1,221 @@
+package de.tum.in.ase.eist.headless;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.SlowCar;
+import de.tum.in.ase.eist.trace.TraceFrame;
+import de.tum.in.ase.eist.trace.TraceReader;
+import de.tum.in.ase.eist.trace.TraceWriter;
+
+/**
+ * Traces a game board that is reset halfway through and checks that every frame
+ * read back matches the state the board had after that tick. Positions may
+ * deviate by the fixed-point resolution of the trace, everything else must be
+ * identical. The frames are read in order, in random order and by seeking into
+ * both segments of the trace.
+ * <p>
+ * The trace is read twice: once with the index written on close, and once with
+ * the index and footer cut off and zero padding in their place, like a trace
+ * whose writer was never closed, so that the index has to be rebuilt by
+ * scanning the frames. Finally the board is ticked again with the closed writer
+ * still registered, which must fail instead of blocking the tick. The process
+ * exits with status 1 on any difference.
+ */
+public final class TraceCheck {
+
+	private static final int NUMBER_OF_CARS = 5_000;
+	private static final int TICKS_PER_SEGMENT = 150;
+	private static final int SEEK_TICK = 100;
+	private static final int RANDOM_READS = 200;
+	private static final long SEED = 7;
+	private static final Dimension2D BOARD_SIZE = new Dimension2D(5_000, 3_000);
+
+	/**
+	 * More ticks than the writer has frame buffers, so a writer that accepts
+	 * frames after close runs out of them and blocks.
+	 */
+	private static final int TICKS_AFTER_CLOSE = 8;
+	private static final long TICK_AFTER_CLOSE_TIMEOUT_MILLIS = 10_000;
+
+	/**
+	 * Half the fixed-point resolution of the trace, plus rounding noise.
+	 */
+	private static final double POSITION_TOLERANCE = 0.5 / 1024 + 1e-9;
+
+	/**
+	 * Zero bytes after the last frame, like the unused rest of a mapped chunk.
+	 */
+	private static final int UNCLOSED_PADDING = 4096;
+
+	/**
+	 * The state of all cars after one tick, in the order of a {@link TraceFrame}.
+	 */
+	private static final class Reference {
+
+		private final long tick;
+		private final double[] x;
+		private final double[] y;
+		private final int[] direction;
+		private final int[] speed;
+		private final boolean[] crunched;
+
+		private Reference(GameBoard gameBoard) {
+			int count = gameBoard.getCars().size() + 1;
+			this.tick = gameBoard.getTick();
+			this.x = new double[count];
+			this.y = new double[count];
+			this.direction = new int[count];
+			this.speed = new int[count];
+			this.crunched = new boolean[count];
+			for (int i = 0; i < count; i++) {
+				Car car = i == 0 ? gameBoard.getPlayerCar() : gameBoard.getCars().get(i - 1);
+				this.x[i] = car.getX();
+				this.y[i] = car.getY();
+				this.direction[i] = car.getDirection();
+				this.speed[i] = car.getSpeed();
+				this.crunched[i] = car.isCrunched();
+			}
+		}
+
+		private boolean matches(TraceFrame frame) {
+			if (frame.getTick() != this.tick || frame.size() != this.x.length) {
+				return false;
+			}
+			for (int i = 0; i < this.x.length; i++) {
+				if (Math.abs(frame.getX(i) - this.x[i]) > POSITION_TOLERANCE
+						|| Math.abs(frame.getY(i) - this.y[i]) > POSITION_TOLERANCE
+						|| frame.getDirection(i) != this.direction[i] || frame.getSpeed(i) != this.speed[i]
+						|| frame.isCrunched(i) != this.crunched[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private TraceCheck() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) throws IOException {
+		GameBoard gameBoard = new GameBoard(BOARD_SIZE, SEED);
+		List<Car> cars = gameBoard.getCars();
+		cars.clear();
+		for (int i = 0; i < NUMBER_OF_CARS; i++) {
+			cars.add(i % 2 == 0 ? new SlowCar(BOARD_SIZE) : new FastCar(BOARD_SIZE));
+		}
+		List<Reference> references = new ArrayList<>();
+		gameBoard.addTickListener(board -> references.add(new Reference(board)));
+
+		Path trace = Files.createTempFile("bumpers", ".trace");
+		Path unclosed = Files.createTempFile("bumpers", ".trace");
+		try {
+			TraceWriter traceWriter = new TraceWriter(trace);
+			gameBoard.addTickListener(traceWriter);
+			HeadlessEngine engine = new HeadlessEngine(gameBoard);
+			engine.run(TICKS_PER_SEGMENT);
+			gameBoard.reset(SEED + 1);
+			engine.run(TICKS_PER_SEGMENT);
+			traceWriter.close();
+
+			copyWithoutIndex(trace, unclosed);
+			boolean identical = check("closed trace", trace, references);
+			identical &= check("unclosed trace", unclosed, references);
+			identical &= checkTickAfterClose(gameBoard);
+			if (!identical) {
+				System.exit(1);
+			}
+		} finally {
+			Files.delete(trace);
+			Files.delete(unclosed);
+		}
+	}
+
+	private static boolean check(String name, Path path, List<Reference> references) throws IOException {
+		boolean identical = true;
+		try (TraceReader reader = new TraceReader(path)) {
+			identical &= reader.getFrameCount() == references.size() && reader.getSegmentCount() == 2;
+			for (int i = 0; identical && i < references.size(); i++) {
+				identical &= references.get(i).matches(reader.readFrame(i));
+			}
+			Random random = new Random(SEED);
+			for (int read = 0; identical && read < RANDOM_READS; read++) {
+				int i = random.nextInt(references.size());
+				identical &= references.get(i).matches(reader.readFrame(i));
+			}
+			if (identical) {
+				// ticks count from 1 in both segments
+				identical &= references.get(SEEK_TICK - 1).matches(reader.seek(0, SEEK_TICK));
+				identical &= references.get(TICKS_PER_SEGMENT + SEEK_TICK - 1).matches(reader.seek(SEEK_TICK));
+			}
+		}
+		System.out.printf("%-15s %d frames, %d bytes: %s%n", name, references.size(), Files.size(path),
+				identical ? "OK" : "DIFFERENT");
+		return identical;
+	}
+
+	/**
+	 * Ticks the board whose trace writer has been closed on another thread, so
+	 * that a blocked tick can be detected by a timeout.
+	 */
+	private static boolean checkTickAfterClose(GameBoard gameBoard) {
+		Throwable[] thrown = new Throwable[1];
+		Thread ticker = new Thread(() -> {
+			try {
+				for (int i = 0; i < TICKS_AFTER_CLOSE; i++) {
+					gameBoard.update();
+				}
+			} catch (IllegalStateException e) {
+				thrown[0] = e;
+			}
+		}, "tick-after-close");
+		ticker.setDaemon(true);
+		ticker.start();
+		try {
+			ticker.join(TICK_AFTER_CLOSE_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		String result;
+		if (ticker.isAlive()) {
+			result = "BLOCKED";
+		} else if (thrown[0] == null) {
+			result = "ACCEPTED";
+		} else {
+			result = "OK";
+		}
+		System.out.printf("%-15s %s%n", "tick after close", result);
+		return thrown[0] != null;
+	}
+
+	/**
+	 * Copies the frames of a closed trace, i.e. everything before the index whose
+	 * offset is the first field of the footer, followed by zero padding.
+	 */
+	private static void copyWithoutIndex(Path trace, Path copy) throws IOException {
+		try (FileChannel source = FileChannel.open(trace, StandardOpenOption.READ);
+				FileChannel target = FileChannel.open(copy, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer footer = ByteBuffer.allocate(Long.BYTES);
+			source.read(footer, source.size() - Long.BYTES - 2 * Integer.BYTES);
+			long indexOffset = footer.flip().getLong();
+			long copied = 0;
+			while (copied < indexOffset) {
+				copied += source.transferTo(copied, indexOffset - copied, target);
+			}
+			target.write(ByteBuffer.allocate(UNCLOSED_PADDING), indexOffset);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package de.tum.in.ase.eist.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.CarStore;
+import de.tum.in.ase.eist.Dimension2D;
+import de.tum.in.ase.eist.FastCar;
+import de.tum.in.ase.eist.Heading;
+import de.tum.in.ase.eist.SlowCar;
+
+/**
+ * Checks that the vector drive of a {@link CarStore} moves every car exactly
+ * like {@link Car#drive(Dimension2D)}. The same fleet is driven one car at a
+ * time as plain objects and with the Vector API in a store, and both are
+ * compared after every tick. The board is small, so that many cars bounce off
+ * its borders, and some cars are crunched. The fleet size is not a multiple of
+ * any vector length, so the scalar tail is covered as well.
+ * <p>
+ * The JVM must be started with {@code --add-modules jdk.incubator.vector}. The
+ * process exits with status 1 on any difference and with status 2 if the
+ * Vector API is not available.
+ */
+public final class VectorDriveCheck {
+
+	private static final int NUMBER_OF_CARS = 100_003;
+	private static final int NUMBER_OF_TICKS = 500;
+	private static final int CRUNCHED_EVERY = 7;
+	private static final long SEED = 42;
+	private static final Dimension2D BOARD_SIZE = new Dimension2D(500, 300);
+
+	private VectorDriveCheck() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	public static void main(String[] args) {
+		if (!CarStore.isVectorDriveSupported()) {
+			System.err.println("The Vector API is not available, add --add-modules jdk.incubator.vector.");
+			System.exit(2);
+		}
+		Random random = new Random(SEED);
+		List<Car> scalar = new ArrayList<>(NUMBER_OF_CARS);
+		List<Car> vector = new ArrayList<>(NUMBER_OF_CARS);
+		for (int i = 0; i < NUMBER_OF_CARS; i++) {
+			Car car = i % 2 == 0 ? new SlowCar(BOARD_SIZE) : new FastCar(BOARD_SIZE);
+			car.setDirection(random.nextInt(Heading.NUMBER_OF_HEADINGS));
+			if (i % CRUNCHED_EVERY == 0) {
+				car.crunch();
+			}
+			scalar.add(car);
+			vector.add(copyOf(car));
+		}
+		CarStore carStore = new CarStore(NUMBER_OF_CARS);
+		for (Car car : vector) {
+			car.attachTo(carStore);
+		}
+		carStore.setVectorDrive(true);
+
+		for (int tick = 1; tick <= NUMBER_OF_TICKS; tick++) {
+			for (Car car : scalar) {
+				car.drive(BOARD_SIZE);
+			}
+			carStore.driveAll(BOARD_SIZE);
+			int difference = firstDifference(scalar, vector);
+			if (difference >= 0) {
+				System.out.printf("vector drive DIFFERENT in tick %d at car %d%n", tick, difference);
+				System.exit(1);
+			}
+		}
+		System.out.printf("vector drive OK (%d cars, %d ticks)%n", NUMBER_OF_CARS, NUMBER_OF_TICKS);
+	}
+
+	private static Car copyOf(Car car) {
+		Car copy = car instanceof FastCar ? new FastCar(BOARD_SIZE) : new SlowCar(BOARD_SIZE);
+		copy.setPosition(car.getX(), car.getY());
+		copy.setDirection(car.getDirection());
+		copy.setSpeed(car.getSpeed());
+		copy.setSize(car.getSize());
+		if (car.isCrunched()) {
+			copy.crunch();
+		}
+		return copy;
+	}
+
+	private static int firstDifference(List<Car> first, List<Car> second) {
+		for (int i = 0; i < first.size(); i++) {
+			Car a = first.get(i);
+			Car b = second.get(i);
+			if (a.getX() != b.getX() || a.getY() != b.getY() || a.getDirection() != b.getDirection()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,43 @@
+package de.tum.in.ase.eist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a crash detected by {@link de.tum.in.ase.eist.GameBoard#moveCars()}.
+ */
+@Name("de.tum.in.ase.eist.Crash")
+@Label("Crash")
+@Category("Bumpers")
+@Description("Two cars crashed into each other")
+@StackTrace(false)
+public class CrashEvent extends Event {
+
+	@Label("First Car")
+	public String firstCar;
+
+	@Label("Second Car")
+	public String secondCar;
+
+	@Label("Winner")
+	public String winner;
+
+	@Label("Player Involved")
+	public boolean playerInvolved;
+
+	@Label("X")
+	@Description("X coordinate of the winner")
+	public double x;
+
+	@Label("Y")
+	@Description("Y coordinate of the winner")
+	public double y;
+
+	@Label("Impact Time")
+	@Description("Fraction of the tick at which the cars first touched, 1 if only the end of the tick is checked")
+	public double impactTime;
+}
@@ -0,0 +1,19 @@
+package de.tum.in.ase.eist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one trigger of the crash sound.
+ */
+@Name("de.tum.in.ase.eist.CrashSound")
+@Label("Crash Sound")
+@Category("Bumpers")
+@Description("Triggering the crash sound effect")
+@StackTrace(false)
+public class CrashSoundEvent extends Event {
+}
@@ -0,0 +1,35 @@
+package de.tum.in.ase.eist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one paint pass of the game board UI.
+ */
+@Name("de.tum.in.ase.eist.Paint")
+@Label("Paint")
+@Category("Bumpers")
+@Description("Rendering one snapshot of the game board onto the canvas")
+@StackTrace(false)
+public class PaintEvent extends Event {
+
+	@Label("Cars")
+	@Description("Number of cars in the snapshot, including the player car")
+	public int cars;
+
+	@Label("Painted Cars")
+	@Description("Number of cars drawn, only the cars inside the viewport or the dirty region")
+	public int paintedCars;
+
+	@Label("Sequence")
+	@Description("Sequence number of the rendered snapshot")
+	public long sequence;
+
+	@Label("Dirty Rectangles")
+	@Description("Whether only the dirty region was repainted")
+	public boolean dirtyRectangles;
+}
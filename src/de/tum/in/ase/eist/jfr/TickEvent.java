@@ -0,0 +1,27 @@
+package de.tum.in.ase.eist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one {@link de.tum.in.ase.eist.GameBoard#update()}.
+ */
+@Name("de.tum.in.ase.eist.Tick")
+@Label("Tick")
+@Category("Bumpers")
+@Description("One update of the game board: driving all cars and detecting collisions")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+	@Label("Cars")
+	@Description("Number of cars on the game board, including the player car")
+	public int cars;
+
+	@Label("Crashes")
+	@Description("Number of crashes detected during the tick")
+	public int crashes;
+}
@@ -0,0 +1,109 @@
+package de.tum.in.ase.eist.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of durations in nanoseconds with logarithmic buckets. Every power
+ * of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so any
+ * recorded value is known within about 6 %, with a fixed memory footprint and
+ * no allocation while recording.
+ * <p>
+ * A histogram must only be written by one thread. Other threads may read it at
+ * any time, e.g. to display it, and then see a slightly stale but usable state.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_BLOCKS = Long.SIZE - SUB_BUCKET_BITS + 1;
+	private static final double PERCENT = 100.0;
+
+	private final long[] counts = new long[BUCKET_BLOCKS * SUB_BUCKETS];
+	private volatile long totalCount;
+	private volatile long max;
+
+	/**
+	 * Records a duration. Negative durations are recorded as 0.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		this.counts[indexOf(value)]++;
+		if (value > this.max) {
+			this.max = value;
+		}
+		this.totalCount++;
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		Arrays.fill(this.counts, 0);
+		this.max = 0;
+		this.totalCount = 0;
+	}
+
+	public long getCount() {
+		return this.totalCount;
+	}
+
+	/**
+	 * Returns the largest recorded duration, exactly.
+	 *
+	 * @return the maximum in nanoseconds, 0 if nothing was recorded
+	 */
+	public long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * Returns the duration that the given percentage of all recorded durations
+	 * does not exceed. The result is the upper bound of the bucket the percentile
+	 * falls into, but never more than the maximum.
+	 *
+	 * @param percentile the percentile between 0 and 100, e.g. 99.9
+	 * @return the percentile in nanoseconds, 0 if nothing was recorded
+	 * @throws IllegalArgumentException if the percentile is not between 0 and 100
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0 || percentile > PERCENT) {
+			throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+		}
+		long total = this.totalCount;
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / PERCENT * total));
+		long seen = 0;
+		for (int index = 0; index < this.counts.length; index++) {
+			seen += this.counts[index];
+			if (seen >= target) {
+				return Math.min(upperBoundOf(index), this.max);
+			}
+		}
+		return this.max;
+	}
+
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long upperBoundOf(int index) {
+		int block = index / SUB_BUCKETS;
+		int subBucket = index % SUB_BUCKETS;
+		if (block == 0) {
+			return subBucket;
+		}
+		int shift = block - 1;
+		long upper = ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+		// the last bucket ends beyond Long.MAX_VALUE
+		return upper < 0 ? Long.MAX_VALUE : upper;
+	}
+}
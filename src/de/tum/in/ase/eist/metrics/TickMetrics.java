@@ -0,0 +1,108 @@
+package de.tum.in.ase.eist.metrics;
+
+/**
+ * Latency histograms for the phases of a game tick and for painting. The tick
+ * phases are written by the simulation thread, painting by the rendering
+ * thread.
+ */
+public class TickMetrics {
+
+	private final LatencyHistogram tick = new LatencyHistogram();
+	private final LatencyHistogram drive = new LatencyHistogram();
+	private final LatencyHistogram collision = new LatencyHistogram();
+	private final LatencyHistogram audio = new LatencyHistogram();
+	private final LatencyHistogram paint = new LatencyHistogram();
+	private final LatencyHistogram tickInterval = new LatencyHistogram();
+
+	private final long tickPeriodNanos;
+	private long lastTickStart;
+	private volatile long missedTickPeriods;
+
+	/**
+	 * Creates metrics without a tick period, so no missed periods are counted.
+	 */
+	public TickMetrics() {
+		this(0);
+	}
+
+	/**
+	 * Creates metrics that count a missed tick period whenever a tick starts more
+	 * than one and a half periods after the previous one, i.e. at least one tick
+	 * was late by more than half a period.
+	 *
+	 * @param tickPeriodNanos the intended time between two ticks
+	 */
+	public TickMetrics(long tickPeriodNanos) {
+		this.tickPeriodNanos = tickPeriodNanos;
+	}
+
+	/**
+	 * Records the start of a tick for the interval histogram and the missed
+	 * periods. Must be called by the simulation thread.
+	 *
+	 * @param now the current {@link System#nanoTime()}
+	 */
+	public void recordTickStart(long now) {
+		if (this.lastTickStart != 0) {
+			long interval = now - this.lastTickStart;
+			this.tickInterval.record(interval);
+			if (this.tickPeriodNanos > 0 && 2 * interval > 3 * this.tickPeriodNanos) {
+				this.missedTickPeriods++;
+			}
+		}
+		this.lastTickStart = now;
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		this.tick.reset();
+		this.drive.reset();
+		this.collision.reset();
+		this.audio.reset();
+		this.paint.reset();
+		this.tickInterval.reset();
+		this.lastTickStart = 0;
+		this.missedTickPeriods = 0;
+	}
+
+	/**
+	 * Returns the duration of whole {@link de.tum.in.ase.eist.GameBoard#update()}
+	 * calls.
+	 *
+	 * @return the tick histogram
+	 */
+	public LatencyHistogram getTick() {
+		return this.tick;
+	}
+
+	public LatencyHistogram getDrive() {
+		return this.drive;
+	}
+
+	public LatencyHistogram getCollision() {
+		return this.collision;
+	}
+
+	/**
+	 * Returns the time spent triggering crash sounds, summed up per tick.
+	 *
+	 * @return the audio histogram
+	 */
+	public LatencyHistogram getAudio() {
+		return this.audio;
+	}
+
+	public LatencyHistogram getPaint() {
+		return this.paint;
+	}
+
+	public LatencyHistogram getTickInterval() {
+		return this.tickInterval;
+	}
+
+	public long getMissedTickPeriods() {
+		return this.missedTickPeriods;
+	}
+}
@@ -0,0 +1,92 @@
+package de.tum.in.ase.eist.trace;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and primitive encodings of the trace file format.
+ * <p>
+ * A trace file starts with a header of {@value #HEADER_SIZE} bytes: the magic
+ * number and the format version. It is followed by one frame per tick, each
+ * with a header ({@code long} tick, {@code int} number of cars, {@code byte}
+ * flags, {@code int} payload length) and a payload of five columns:
+ * <ol>
+ * <li>x and y positions as fixed-point values,</li>
+ * <li>directions,</li>
+ * <li>speeds,</li>
+ * <li>the crunched flags as a bit set.</li>
+ * </ol>
+ * The numeric columns are written as zigzag varints. In a keyframe they hold the
+ * values themselves, in every other frame the difference to the previous frame.
+ * The ticks of the frames increase, except at the start of a new segment, which
+ * is always a keyframe.
+ * <p>
+ * A closed trace ends with an index of all frames ({@code long} tick,
+ * {@code long} offset and {@code byte} flags per frame) and a footer
+ * ({@code long} index offset, {@code int} number of frames, {@code int} magic
+ * number). A trace without a footer, e.g. after a crash, can still be read by
+ * scanning the frames.
+ */
+final class TraceFormat {
+
+	static final int MAGIC = 0x42545243;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+	static final int FRAME_HEADER_SIZE = Long.BYTES + Integer.BYTES + Byte.BYTES + Integer.BYTES;
+	static final int INDEX_ENTRY_SIZE = Long.BYTES + Long.BYTES + Byte.BYTES;
+	static final int FOOTER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+	static final byte KEYFRAME = 1;
+
+	static final double POSITION_SCALE = 1024;
+
+	private static final int MAX_VARINT_BYTES = 10;
+	private static final int VARINT_PAYLOAD_BITS = 7;
+	private static final int VARINT_PAYLOAD_MASK = 0x7F;
+	private static final int VARINT_CONTINUATION = 0x80;
+
+	private TraceFormat() {
+		// Private constructor because a utility class should not be instantiable.
+	}
+
+	static long quantize(double coordinate) {
+		return Math.round(coordinate * POSITION_SCALE);
+	}
+
+	static double dequantize(long coordinate) {
+		return coordinate / POSITION_SCALE;
+	}
+
+	/**
+	 * @param numberOfCars the number of cars in a frame
+	 * @return an upper bound for the payload size of the frame in bytes
+	 */
+	static long maxPayloadSize(int numberOfCars) {
+		return (long) numberOfCars * 4 * MAX_VARINT_BYTES + bitSetSize(numberOfCars);
+	}
+
+	static int bitSetSize(int bits) {
+		return (bits + Byte.SIZE - 1) / Byte.SIZE;
+	}
+
+	static void putVarLong(ByteBuffer buffer, long value) {
+		long zigzag = (value << 1) ^ (value >> (Long.SIZE - 1));
+		while ((zigzag & ~VARINT_PAYLOAD_MASK) != 0) {
+			buffer.put((byte) ((zigzag & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION));
+			zigzag >>>= VARINT_PAYLOAD_BITS;
+		}
+		buffer.put((byte) zigzag);
+	}
+
+	static long getVarLong(ByteBuffer buffer) {
+		long zigzag = 0;
+		int shift = 0;
+		byte next;
+		do {
+			next = buffer.get();
+			zigzag |= (long) (next & VARINT_PAYLOAD_MASK) << shift;
+			shift += VARINT_PAYLOAD_BITS;
+		} while ((next & VARINT_CONTINUATION) != 0);
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+}
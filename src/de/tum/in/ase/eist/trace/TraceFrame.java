@@ -0,0 +1,125 @@
+package de.tum.in.ase.eist.trace;
+
+import java.util.Arrays;
+
+import de.tum.in.ase.eist.Car;
+import de.tum.in.ase.eist.GameBoard;
+
+/**
+ * The state of all cars after one tick, stored as one array per field. Index 0
+ * is the player car, the other cars follow in the order of
+ * {@link GameBoard#getCars()}.
+ * <p>
+ * Positions are stored in the fixed-point resolution of the trace, i.e. rounded
+ * to {@code 1 / }{@value TraceFormat#POSITION_SCALE} pixels.
+ */
+public class TraceFrame {
+
+	private long tick;
+	private int count;
+
+	private long[] x = new long[0];
+	private long[] y = new long[0];
+	private int[] direction = new int[0];
+	private int[] speed = new int[0];
+	private boolean[] crunched = new boolean[0];
+
+	/**
+	 * Copies the state of a game board into this frame.
+	 *
+	 * @param gameBoard the game board to copy
+	 */
+	void capture(GameBoard gameBoard) {
+		int numberOfCars = gameBoard.getCars().size();
+		resize(numberOfCars + 1);
+		this.tick = gameBoard.getTick();
+		capture(0, gameBoard.getPlayerCar());
+		for (int i = 0; i < numberOfCars; i++) {
+			capture(i + 1, gameBoard.getCars().get(i));
+		}
+	}
+
+	private void capture(int index, Car car) {
+		this.x[index] = TraceFormat.quantize(car.getX());
+		this.y[index] = TraceFormat.quantize(car.getY());
+		this.direction[index] = car.getDirection();
+		this.speed[index] = car.getSpeed();
+		this.crunched[index] = car.isCrunched();
+	}
+
+	/**
+	 * Sets the number of cars, growing the columns if needed. Values of cars that
+	 * existed before are kept.
+	 *
+	 * @param newCount the number of cars
+	 */
+	void resize(int newCount) {
+		if (newCount > this.x.length) {
+			int capacity = Math.max(newCount, this.x.length * 2);
+			this.x = Arrays.copyOf(this.x, capacity);
+			this.y = Arrays.copyOf(this.y, capacity);
+			this.direction = Arrays.copyOf(this.direction, capacity);
+			this.speed = Arrays.copyOf(this.speed, capacity);
+			this.crunched = Arrays.copyOf(this.crunched, capacity);
+		}
+		this.count = newCount;
+	}
+
+	void setTick(long tick) {
+		this.tick = tick;
+	}
+
+	long[] xColumn() {
+		return this.x;
+	}
+
+	long[] yColumn() {
+		return this.y;
+	}
+
+	int[] directionColumn() {
+		return this.direction;
+	}
+
+	int[] speedColumn() {
+		return this.speed;
+	}
+
+	boolean[] crunchedColumn() {
+		return this.crunched;
+	}
+
+	/**
+	 * @return the number of completed ticks when the frame was captured
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	/**
+	 * @return the number of cars including the player car
+	 */
+	public int size() {
+		return this.count;
+	}
+
+	public double getX(int index) {
+		return TraceFormat.dequantize(this.x[index]);
+	}
+
+	public double getY(int index) {
+		return TraceFormat.dequantize(this.y[index]);
+	}
+
+	public int getDirection(int index) {
+		return this.direction[index];
+	}
+
+	public int getSpeed(int index) {
+		return this.speed[index];
+	}
+
+	public boolean isCrunched(int index) {
+		return this.crunched[index];
+	}
+}
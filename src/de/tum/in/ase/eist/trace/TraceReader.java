@@ -0,0 +1,290 @@
+package de.tum.in.ase.eist.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a trace file written by {@link TraceWriter}. Any frame can be read
+ * directly: the reader looks the frame up in the index, decodes the keyframe
+ * before it and applies the following deltas. Reading the frames in order only
+ * decodes every frame once.
+ * <p>
+ * The ticks increase from frame to frame within a segment. A new segment starts
+ * wherever the tick counter of the game board went back, e.g. because the board
+ * was reset while it was traced, so a tick may occur once per segment.
+ * <p>
+ * The reader reuses a single {@link TraceFrame}, so a returned frame is only
+ * valid until the next read.
+ */
+public class TraceReader implements Closeable {
+
+	private static final int DEFAULT_INDEX_CAPACITY = 1024;
+
+	private final FileChannel channel;
+
+	private long[] ticks;
+	private long[] offsets;
+	private byte[] flags;
+	private int frameCount;
+
+	/**
+	 * The index of the first frame of every segment.
+	 */
+	private int[] segmentStarts;
+	private int segmentCount;
+
+	private final TraceFrame frame = new TraceFrame();
+	private int decodedFrame = -1;
+
+	/**
+	 * Opens a trace file and reads its index. If the file has no index because the
+	 * writer was not closed, the index is rebuilt by scanning all frames.
+	 *
+	 * @param path the trace file
+	 * @throws IOException if the file cannot be read or is not a trace
+	 */
+	public TraceReader(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = read(0, TraceFormat.HEADER_SIZE);
+			if (header.getInt() != TraceFormat.MAGIC) {
+				throw new IOException(path + " is not a trace file.");
+			}
+			int version = header.getInt();
+			if (version != TraceFormat.VERSION) {
+				throw new IOException("Unsupported trace version " + version + ".");
+			}
+			if (!readIndex()) {
+				scanFrames();
+			}
+			findSegments();
+		} catch (IOException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+
+	public int getFrameCount() {
+		return this.frameCount;
+	}
+
+	/**
+	 * @param index the index of a frame
+	 * @return the tick the frame was captured at
+	 */
+	public long getTick(int index) {
+		return this.ticks[index];
+	}
+
+	/**
+	 * Returns the number of segments, i.e. the number of times the traced game
+	 * board started counting its ticks again, plus one.
+	 *
+	 * @return the number of segments, 0 for a trace without frames
+	 */
+	public int getSegmentCount() {
+		return this.segmentCount;
+	}
+
+	/**
+	 * Reads the last frame of the last segment captured at or before the given
+	 * tick.
+	 *
+	 * @param tick the tick to seek to
+	 * @return the frame
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the last segment starts after the tick
+	 */
+	public TraceFrame seek(long tick) throws IOException {
+		return seek(this.segmentCount - 1, tick);
+	}
+
+	/**
+	 * Reads the last frame of a segment captured at or before the given tick.
+	 *
+	 * @param segment the index of the segment
+	 * @param tick    the tick to seek to
+	 * @return the frame
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the segment starts after the tick
+	 */
+	public TraceFrame seek(int segment, long tick) throws IOException {
+		if (segment < 0 || segment >= this.segmentCount) {
+			throw new IndexOutOfBoundsException(segment);
+		}
+		int start = this.segmentStarts[segment];
+		int end = segment + 1 < this.segmentCount ? this.segmentStarts[segment + 1] : this.frameCount;
+		int index = Arrays.binarySearch(this.ticks, start, end, tick);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		if (index < start) {
+			throw new IllegalArgumentException("The segment starts after tick " + tick + ".");
+		}
+		return readFrame(index);
+	}
+
+	/**
+	 * Reads a frame.
+	 *
+	 * @param index the index of the frame
+	 * @return the frame
+	 * @throws IOException if the file cannot be read
+	 */
+	public TraceFrame readFrame(int index) throws IOException {
+		if (index < 0 || index >= this.frameCount) {
+			throw new IndexOutOfBoundsException(index);
+		}
+		int keyframe = index;
+		while ((this.flags[keyframe] & TraceFormat.KEYFRAME) == 0) {
+			keyframe--;
+		}
+		int start = keyframe;
+		if (this.decodedFrame >= keyframe && this.decodedFrame <= index) {
+			start = this.decodedFrame + 1;
+		}
+		for (int i = start; i <= index; i++) {
+			decode(i);
+		}
+		return this.frame;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	private void decode(int index) throws IOException {
+		this.decodedFrame = -1;
+		ByteBuffer header = read(this.offsets[index], TraceFormat.FRAME_HEADER_SIZE);
+		long tick = header.getLong();
+		int numberOfCars = header.getInt();
+		boolean keyframe = (header.get() & TraceFormat.KEYFRAME) != 0;
+		int payloadLength = header.getInt();
+		if (!keyframe && numberOfCars != this.frame.size()) {
+			throw new IOException("Frame " + index + " does not match its predecessor.");
+		}
+
+		ByteBuffer payload = this.channel.map(FileChannel.MapMode.READ_ONLY,
+				this.offsets[index] + TraceFormat.FRAME_HEADER_SIZE, payloadLength);
+		this.frame.resize(numberOfCars);
+		this.frame.setTick(tick);
+		getColumn(payload, this.frame.xColumn(), numberOfCars, keyframe);
+		getColumn(payload, this.frame.yColumn(), numberOfCars, keyframe);
+		getColumn(payload, this.frame.directionColumn(), numberOfCars, keyframe);
+		getColumn(payload, this.frame.speedColumn(), numberOfCars, keyframe);
+		getBits(payload, this.frame.crunchedColumn(), numberOfCars);
+		this.decodedFrame = index;
+	}
+
+	private static void getColumn(ByteBuffer payload, long[] values, int count, boolean keyframe) {
+		for (int i = 0; i < count; i++) {
+			long value = TraceFormat.getVarLong(payload);
+			values[i] = keyframe ? value : values[i] + value;
+		}
+	}
+
+	private static void getColumn(ByteBuffer payload, int[] values, int count, boolean keyframe) {
+		for (int i = 0; i < count; i++) {
+			int value = (int) TraceFormat.getVarLong(payload);
+			values[i] = keyframe ? value : values[i] + value;
+		}
+	}
+
+	private static void getBits(ByteBuffer payload, boolean[] values, int count) {
+		for (int start = 0; start < count; start += Byte.SIZE) {
+			int bits = payload.get();
+			for (int bit = 0; bit < Byte.SIZE && start + bit < count; bit++) {
+				values[start + bit] = (bits & (1 << bit)) != 0;
+			}
+		}
+	}
+
+	private boolean readIndex() throws IOException {
+		long fileSize = this.channel.size();
+		if (fileSize < TraceFormat.HEADER_SIZE + TraceFormat.FOOTER_SIZE) {
+			return false;
+		}
+		ByteBuffer footer = read(fileSize - TraceFormat.FOOTER_SIZE, TraceFormat.FOOTER_SIZE);
+		long indexOffset = footer.getLong();
+		int count = footer.getInt();
+		if (footer.getInt() != TraceFormat.MAGIC || count < 0
+				|| indexOffset + (long) count * TraceFormat.INDEX_ENTRY_SIZE + TraceFormat.FOOTER_SIZE != fileSize) {
+			return false;
+		}
+		ByteBuffer index = this.channel.map(FileChannel.MapMode.READ_ONLY, indexOffset,
+				(long) count * TraceFormat.INDEX_ENTRY_SIZE);
+		this.ticks = new long[count];
+		this.offsets = new long[count];
+		this.flags = new byte[count];
+		for (int i = 0; i < count; i++) {
+			this.ticks[i] = index.getLong();
+			this.offsets[i] = index.getLong();
+			this.flags[i] = index.get();
+		}
+		this.frameCount = count;
+		return true;
+	}
+
+	/**
+	 * Rebuilds the index of a trace that was not closed. The writer maps the file
+	 * in chunks, so the unused rest of the last chunk is zero; a frame header with
+	 * no cars marks the end of the trace.
+	 */
+	private void scanFrames() throws IOException {
+		long fileSize = this.channel.size();
+		this.ticks = new long[DEFAULT_INDEX_CAPACITY];
+		this.offsets = new long[DEFAULT_INDEX_CAPACITY];
+		this.flags = new byte[DEFAULT_INDEX_CAPACITY];
+		long offset = TraceFormat.HEADER_SIZE;
+		while (offset + TraceFormat.FRAME_HEADER_SIZE <= fileSize) {
+			ByteBuffer header = read(offset, TraceFormat.FRAME_HEADER_SIZE);
+			long tick = header.getLong();
+			int numberOfCars = header.getInt();
+			byte frameFlags = header.get();
+			int payloadLength = header.getInt();
+			long next = offset + TraceFormat.FRAME_HEADER_SIZE + payloadLength;
+			if (numberOfCars <= 0 || payloadLength <= 0 || next > fileSize) {
+				break;
+			}
+			if (this.frameCount == this.ticks.length) {
+				this.ticks = Arrays.copyOf(this.ticks, this.frameCount * 2);
+				this.offsets = Arrays.copyOf(this.offsets, this.frameCount * 2);
+				this.flags = Arrays.copyOf(this.flags, this.frameCount * 2);
+			}
+			this.ticks[this.frameCount] = tick;
+			this.offsets[this.frameCount] = offset;
+			this.flags[this.frameCount] = frameFlags;
+			this.frameCount++;
+			offset = next;
+		}
+	}
+
+	private void findSegments() {
+		this.segmentStarts = new int[DEFAULT_INDEX_CAPACITY];
+		for (int i = 0; i < this.frameCount; i++) {
+			if (i > 0 && this.ticks[i] > this.ticks[i - 1]) {
+				continue;
+			}
+			if (this.segmentCount == this.segmentStarts.length) {
+				this.segmentStarts = Arrays.copyOf(this.segmentStarts, this.segmentCount * 2);
+			}
+			this.segmentStarts[this.segmentCount++] = i;
+		}
+	}
+
+	private ByteBuffer read(long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (this.channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of the trace file.");
+			}
+		}
+		return buffer.flip();
+	}
+}
@@ -0,0 +1,292 @@
+package de.tum.in.ase.eist.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.TickListener;
+
+/**
+ * Writes the state of all cars after every tick into a memory-mapped trace file,
+ * see {@link TraceFormat} for the layout. Register it with
+ * {@link GameBoard#addTickListener(TickListener)} and {@link #close()} it when
+ * the game is over.
+ * <p>
+ * The simulation thread only copies the car state into one of
+ * {@value #BUFFERED_FRAMES} frame buffers. Encoding and writing happen on a
+ * background thread. If that thread falls behind by more than the buffered
+ * frames, the simulation thread waits for it, so no frame is ever dropped.
+ * <p>
+ * A frame whose tick is not after the tick of the previous frame, e.g. after a
+ * {@link GameBoard#reset()}, starts a new segment of the trace and is always
+ * written as a keyframe, see {@link TraceReader#getSegmentCount()}.
+ */
+public class TraceWriter implements TickListener, Closeable {
+
+	private static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+	private static final int BUFFERED_FRAMES = 3;
+	private static final long CHUNK_SIZE = 64L << 20;
+	private static final int DEFAULT_INDEX_CAPACITY = 1024;
+
+	private static final TraceFrame END_OF_TRACE = new TraceFrame();
+
+	private final FileChannel channel;
+	private final int keyframeInterval;
+
+	private final BlockingQueue<TraceFrame> freeFrames = new ArrayBlockingQueue<>(BUFFERED_FRAMES);
+	private final BlockingQueue<TraceFrame> capturedFrames = new ArrayBlockingQueue<>(BUFFERED_FRAMES + 1);
+	private final Thread encoder;
+	private volatile IOException failure;
+	private volatile boolean closed;
+
+	// Only accessed by the encoder thread.
+	private final TraceFrame previousFrame = new TraceFrame();
+	private MappedByteBuffer chunk;
+	private long chunkOffset;
+	private int framesSinceKeyframe;
+	private long[] indexTicks = new long[DEFAULT_INDEX_CAPACITY];
+	private long[] indexOffsets = new long[DEFAULT_INDEX_CAPACITY];
+	private byte[] indexFlags = new byte[DEFAULT_INDEX_CAPACITY];
+	private int frameCount;
+
+	/**
+	 * Creates a trace file with a keyframe every
+	 * {@value #DEFAULT_KEYFRAME_INTERVAL} frames. An existing file is replaced.
+	 *
+	 * @param path the trace file
+	 * @throws IOException if the file cannot be created
+	 */
+	public TraceWriter(Path path) throws IOException {
+		this(path, DEFAULT_KEYFRAME_INTERVAL);
+	}
+
+	/**
+	 * Creates a trace file. An existing file is replaced.
+	 *
+	 * @param path             the trace file
+	 * @param keyframeInterval the maximum number of frames from one keyframe to
+	 *                         the next; smaller intervals make seeking faster
+	 *                         and the file larger
+	 * @throws IOException if the file cannot be created
+	 */
+	public TraceWriter(Path path, int keyframeInterval) throws IOException {
+		if (keyframeInterval < 1) {
+			throw new IllegalArgumentException("The keyframe interval must be positive.");
+		}
+		this.keyframeInterval = keyframeInterval;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			reserve(TraceFormat.HEADER_SIZE);
+			this.chunk.putInt(TraceFormat.MAGIC);
+			this.chunk.putInt(TraceFormat.VERSION);
+		} catch (IOException e) {
+			this.channel.close();
+			throw e;
+		}
+		for (int i = 0; i < BUFFERED_FRAMES; i++) {
+			this.freeFrames.add(new TraceFrame());
+		}
+		this.encoder = new Thread(this::encodeFrames, "trace-writer");
+		this.encoder.setDaemon(true);
+		this.encoder.start();
+	}
+
+	/**
+	 * Captures the state of the game board and hands it to the encoder thread.
+	 *
+	 * @throws UncheckedIOException if writing an earlier frame failed
+	 * @throws IllegalStateException if the trace has been closed
+	 */
+	@Override
+	public void tickCompleted(GameBoard gameBoard) {
+		if (this.closed) {
+			// the encoder no longer returns frames, taking one would block forever
+			throw new IllegalStateException("The trace has been closed.");
+		}
+		if (this.failure != null) {
+			throw new UncheckedIOException("Writing the trace failed.", this.failure);
+		}
+		try {
+			TraceFrame frame = this.freeFrames.take();
+			frame.capture(gameBoard);
+			this.capturedFrames.put(frame);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes all captured frames and the index and closes the file.
+	 *
+	 * @throws IOException if writing the trace failed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		try {
+			this.capturedFrames.put(END_OF_TRACE);
+			this.encoder.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while closing the trace.", e);
+		}
+		if (this.failure != null) {
+			throw this.failure;
+		}
+	}
+
+	private void encodeFrames() {
+		try {
+			TraceFrame frame;
+			while ((frame = this.capturedFrames.take()) != END_OF_TRACE) {
+				if (this.failure == null) {
+					try {
+						encode(frame);
+					} catch (IOException e) {
+						this.failure = e;
+					}
+				}
+				this.freeFrames.put(frame);
+			}
+		} catch (InterruptedException e) {
+			this.failure = new IOException("The trace writer was interrupted.", e);
+		}
+		try {
+			if (this.failure == null) {
+				writeIndex();
+			}
+			this.channel.close();
+		} catch (IOException e) {
+			this.failure = e;
+		}
+	}
+
+	private void encode(TraceFrame frame) throws IOException {
+		int numberOfCars = frame.size();
+		boolean keyframe = this.frameCount == 0 || this.framesSinceKeyframe + 1 >= this.keyframeInterval
+				|| numberOfCars != this.previousFrame.size() || frame.getTick() <= this.previousFrame.getTick();
+		byte flags = keyframe ? TraceFormat.KEYFRAME : 0;
+
+		reserve(TraceFormat.FRAME_HEADER_SIZE + TraceFormat.maxPayloadSize(numberOfCars));
+		int frameStart = this.chunk.position();
+		this.chunk.putLong(frame.getTick());
+		this.chunk.putInt(numberOfCars);
+		this.chunk.put(flags);
+		int lengthPosition = this.chunk.position();
+		this.chunk.putInt(0);
+		int payloadStart = this.chunk.position();
+
+		putColumn(frame.xColumn(), this.previousFrame.xColumn(), numberOfCars, keyframe);
+		putColumn(frame.yColumn(), this.previousFrame.yColumn(), numberOfCars, keyframe);
+		putColumn(frame.directionColumn(), this.previousFrame.directionColumn(), numberOfCars, keyframe);
+		putColumn(frame.speedColumn(), this.previousFrame.speedColumn(), numberOfCars, keyframe);
+		putBits(frame.crunchedColumn(), numberOfCars);
+		this.chunk.putInt(lengthPosition, this.chunk.position() - payloadStart);
+
+		addIndexEntry(frame.getTick(), this.chunkOffset + frameStart, flags);
+		this.framesSinceKeyframe = keyframe ? 0 : this.framesSinceKeyframe + 1;
+		remember(frame);
+	}
+
+	private void putColumn(long[] values, long[] previous, int count, boolean keyframe) {
+		for (int i = 0; i < count; i++) {
+			TraceFormat.putVarLong(this.chunk, keyframe ? values[i] : values[i] - previous[i]);
+		}
+	}
+
+	private void putColumn(int[] values, int[] previous, int count, boolean keyframe) {
+		for (int i = 0; i < count; i++) {
+			TraceFormat.putVarLong(this.chunk, keyframe ? values[i] : (long) values[i] - previous[i]);
+		}
+	}
+
+	private void putBits(boolean[] values, int count) {
+		for (int start = 0; start < count; start += Byte.SIZE) {
+			int bits = 0;
+			for (int bit = 0; bit < Byte.SIZE && start + bit < count; bit++) {
+				if (values[start + bit]) {
+					bits |= 1 << bit;
+				}
+			}
+			this.chunk.put((byte) bits);
+		}
+	}
+
+	private void remember(TraceFrame frame) {
+		int count = frame.size();
+		this.previousFrame.resize(count);
+		System.arraycopy(frame.xColumn(), 0, this.previousFrame.xColumn(), 0, count);
+		System.arraycopy(frame.yColumn(), 0, this.previousFrame.yColumn(), 0, count);
+		System.arraycopy(frame.directionColumn(), 0, this.previousFrame.directionColumn(), 0, count);
+		System.arraycopy(frame.speedColumn(), 0, this.previousFrame.speedColumn(), 0, count);
+	}
+
+	private void addIndexEntry(long tick, long offset, byte flags) {
+		if (this.frameCount == this.indexTicks.length) {
+			this.indexTicks = Arrays.copyOf(this.indexTicks, this.frameCount * 2);
+			this.indexOffsets = Arrays.copyOf(this.indexOffsets, this.frameCount * 2);
+			this.indexFlags = Arrays.copyOf(this.indexFlags, this.frameCount * 2);
+		}
+		this.indexTicks[this.frameCount] = tick;
+		this.indexOffsets[this.frameCount] = offset;
+		this.indexFlags[this.frameCount] = flags;
+		this.frameCount++;
+	}
+
+	/**
+	 * Makes sure the mapped chunk has room for the given number of bytes, mapping
+	 * the next chunk of the file if it has not.
+	 */
+	private void reserve(long bytes) throws IOException {
+		if (this.chunk != null && this.chunk.remaining() >= bytes) {
+			return;
+		}
+		long mappingSize = Math.max(CHUNK_SIZE, bytes);
+		if (mappingSize > Integer.MAX_VALUE) {
+			throw new IOException("A frame of " + bytes + " bytes does not fit into one mapping.");
+		}
+		long offset = 0;
+		if (this.chunk != null) {
+			offset = this.chunkOffset + this.chunk.position();
+			this.chunk.force();
+		}
+		this.chunk = this.channel.map(FileChannel.MapMode.READ_WRITE, offset, mappingSize);
+		this.chunkOffset = offset;
+	}
+
+	private void writeIndex() throws IOException {
+		long indexOffset = this.chunkOffset + this.chunk.position();
+		this.chunk.force();
+		this.channel.truncate(indexOffset);
+
+		ByteBuffer index = ByteBuffer
+				.allocate(this.frameCount * TraceFormat.INDEX_ENTRY_SIZE + TraceFormat.FOOTER_SIZE);
+		for (int i = 0; i < this.frameCount; i++) {
+			index.putLong(this.indexTicks[i]);
+			index.putLong(this.indexOffsets[i]);
+			index.put(this.indexFlags[i]);
+		}
+		index.putLong(indexOffset);
+		index.putInt(this.frameCount);
+		index.putInt(TraceFormat.MAGIC);
+		index.flip();
+		long position = indexOffset;
+		while (index.hasRemaining()) {
+			position += this.channel.write(index, position);
+		}
+		this.channel.force(true);
+	}
+}
@@ -1,7 +1,9 @@
 package de.tum.in.ase.eist.usercontrol;
 
 import de.tum.in.ase.eist.Car;
-import de.tum.in.ase.eist.Point2D;
+import de.tum.in.ase.eist.GameBoard;
+import de.tum.in.ase.eist.Heading;
+import de.tum.in.ase.eist.gameview.Camera;
 import de.tum.in.ase.eist.gameview.GameBoardUI;
 import javafx.scene.input.MouseEvent;
 
@@ -11,37 +13,29 @@
  */
 public class MouseSteering {
 
-	private static final int ANGLE_90_DEGREES = 90;
-	private static final int ANGLE_270_DEGREES = 270;
-
-	private final Car userCar;
+	private final GameBoard gameBoard;
+	private final Camera camera;
 
 	/**
-	 * Creates a MouseSteering instance for a specific GameBoardUI and a car that
-	 * the user needs to steer with their mouse.
+	 * Creates a MouseSteering instance for a specific GameBoardUI and a game board
+	 * whose player car the user needs to steer with their mouse.
 	 *
 	 * @param gameBoardUI the game board UI to listen to mouse presses
-	 * @param userCar     the car that should be steered by the user
+	 * @param gameBoard   the game board with the car that should be steered by the
+	 *                    user
 	 */
-	public MouseSteering(GameBoardUI gameBoardUI, Car userCar) {
-		this.userCar = userCar;
+	public MouseSteering(GameBoardUI gameBoardUI, GameBoard gameBoard) {
+		this.gameBoard = gameBoard;
+		this.camera = gameBoardUI.getCamera();
 		gameBoardUI.addEventHandler(MouseEvent.MOUSE_PRESSED, this::mousePressed);
 	}
 
 	private void mousePressed(MouseEvent clickEvent) {
-		Point2D carPosition = userCar.getPosition();
-		Point2D clickPosition = new Point2D(clickEvent.getX(), clickEvent.getY());
-		double deltaX = clickPosition.getX() - carPosition.getX();
-		deltaX = Math.abs(deltaX);
-		double deltaY = clickPosition.getY() - carPosition.getY();
-		int degree = (int) Math.toDegrees(Math.atan2(deltaY, deltaX));
-
-		if (clickPosition.getX() > carPosition.getX()) {
-			degree = ANGLE_90_DEGREES - degree;
-		} else {
-			degree = ANGLE_270_DEGREES + degree;
-		}
-
-		userCar.setDirection(degree);
+		Car userCar = this.gameBoard.getPlayerCar();
+		// the click is on the canvas, which only shows the part of the world in view
+		double deltaX = this.camera.toWorldX(clickEvent.getX()) - userCar.getX();
+		double deltaY = this.camera.toWorldY(clickEvent.getY()) - userCar.getY();
+		// applied with the next tick, so that the input can be recorded and replayed
+		this.gameBoard.steerPlayer(Heading.towards(deltaX, deltaY));
 	}
 }